@@ -0,0 +1,172 @@
+package com.SerenityBDD.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Compile-time counterpart of the page object registry. For every page object under {@code com.SerenityBDD.pages}
+ * it emits {@code com.SerenityBDD.support.GeneratedLocatorIndex}, a switch from page object and element name to a
+ * direct reference of the public static By field, so locators resolve without reflection.
+ * <p>
+ * The index covers the page objects compiled in the round as well as the ones already in the class output, so an
+ * incremental compile of a single page object keeps the others indexed. Concrete page objects missing the "loaded"
+ * locator their kind is focused with (PAGE_LOADED, SECTION_LOADED, GRID_LOADED, DIALOG_LOADED or TAB_LOADED) get a
+ * warning, as focusing on them fails at runtime.
+ * </p>
+ */
+@SupportedAnnotationTypes("*")
+public class LocatorIndexProcessor extends AbstractProcessor {
+
+    static final String PAGES_PACKAGE = "com.SerenityBDD.pages";
+    static final String INDEX_PACKAGE = "com.SerenityBDD.support";
+    static final String INDEX_CLASS = "GeneratedLocatorIndex";
+    static final String BY_CLASS = "org.openqa.selenium.By";
+
+    private boolean indexWritten = false;
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (indexWritten || roundEnv.processingOver()) return false;
+        TypeElement byElement = processingEnv.getElementUtils().getTypeElement(BY_CLASS);
+        if (byElement == null) return false;
+        TypeMirror byType = byElement.asType();
+
+        Map<String, List<String>> locators = new TreeMap<>();
+        for (TypeElement pageObject : pageObjects(roundEnv)) {
+            String className = pageObject.getQualifiedName().toString();
+            String relativeName = className.substring(PAGES_PACKAGE.length() + 1);
+            List<String> fields = new ArrayList<>();
+            for (VariableElement field : ElementFilter.fieldsIn(pageObject.getEnclosedElements())) {
+                Set<Modifier> modifiers = field.getModifiers();
+                if (!modifiers.contains(Modifier.STATIC)
+                        || !processingEnv.getTypeUtils().isAssignable(field.asType(), byType)) continue;
+                if (modifiers.contains(Modifier.PUBLIC) && modifiers.contains(Modifier.FINAL)
+                        && pageObject.getModifiers().contains(Modifier.PUBLIC)) {
+                    fields.add(field.getSimpleName().toString());
+                } else {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Locator " + field.getSimpleName()
+                            + " is not a public static final field of a public class and will be resolved "
+                            + "reflectively.", field);
+                }
+            }
+            String loadedMarker = loadedMarker(relativeName);
+            if (!pageObject.getModifiers().contains(Modifier.ABSTRACT) && !fields.contains(loadedMarker)) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING, "Page object " + relativeName
+                        + " must declare a public static final By " + loadedMarker + " locator.", pageObject);
+            }
+            locators.put(relativeName, fields);
+        }
+        writeIndex(locators);
+        indexWritten = true;
+        return false;
+    }
+
+    private Collection<TypeElement> pageObjects(RoundEnvironment roundEnv) {
+        Map<String, TypeElement> pageObjects = new TreeMap<>();
+        for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+            String className = type.getQualifiedName().toString();
+            if (className.startsWith(PAGES_PACKAGE + ".")) pageObjects.put(className, type);
+        }
+        for (String className : compiledPageObjects()) {
+            if (pageObjects.containsKey(className)) continue;
+            TypeElement type = processingEnv.getElementUtils().getTypeElement(className);
+            if (type != null) pageObjects.put(className, type);
+        }
+        return pageObjects.values();
+    }
+
+    private List<String> compiledPageObjects() {
+        List<String> classNames = new ArrayList<>();
+        try {
+            FileObject marker = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, PAGES_PACKAGE,
+                    "package-info.class");
+            Path pagesDirectory = Paths.get(marker.toUri()).getParent();
+            if (!Files.isDirectory(pagesDirectory)) return classNames;
+            Path classOutput = pagesDirectory;
+            for (int i = PAGES_PACKAGE.split("\\.").length; i > 0; i--) classOutput = classOutput.getParent();
+            try (Stream<Path> paths = Files.walk(pagesDirectory)) {
+                Path root = classOutput;
+                paths.map(path -> root.relativize(path).toString())
+                        .filter(path -> path.endsWith(".class") && !path.contains("$")
+                                && !path.endsWith("package-info.class"))
+                        .map(path -> path.substring(0, path.length() - ".class".length())
+                                .replace(File.separatorChar, '.'))
+                        .forEach(classNames::add);
+            }
+        } catch (IOException | IllegalArgumentException | UnsupportedOperationException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE, "Indexing only the page objects of "
+                    + "this compilation: " + e.getMessage());
+        }
+        return classNames;
+    }
+
+    /**
+     * Resolves the locator a page object is focused with, based on the sub-package it lives in.
+     *
+     * @param relativeName The page object name relative to the pages package, e.g. "main.grids.Results".
+     * @return String The name of the "loaded" locator.
+     */
+    static String loadedMarker(String relativeName) {
+        String[] parts = relativeName.split("\\.");
+        if (parts.length < 3) return "PAGE_LOADED";
+        return switch (parts[1]) {
+            case "section" -> "SECTION_LOADED";
+            case "grids" -> "GRID_LOADED";
+            case "dialogs" -> "DIALOG_LOADED";
+            case "tabs" -> "TAB_LOADED";
+            default -> "PAGE_LOADED";
+        };
+    }
+
+    private void writeIndex(Map<String, List<String>> locators) {
+        StringBuilder source = new StringBuilder()
+                .append("package ").append(INDEX_PACKAGE).append(";\n\n")
+                .append("import ").append(BY_CLASS).append(";\n\n")
+                .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                .append("final class ").append(INDEX_CLASS).append(" {\n\n")
+                .append("    private ").append(INDEX_CLASS).append("() {\n    }\n\n")
+                .append("    static By locator(String pageObject, String element) {\n")
+                .append("        return switch (pageObject) {\n");
+        locators.forEach((pageObject, fields) -> {
+            if (fields.isEmpty()) return;
+            source.append("            case \"").append(pageObject).append("\" -> switch (element) {\n");
+            for (String field : fields) {
+                source.append("                case \"").append(field).append("\" -> ").append(PAGES_PACKAGE)
+                        .append('.').append(pageObject).append('.').append(field).append(";\n");
+            }
+            source.append("                default -> null;\n            };\n");
+        });
+        source.append("            default -> null;\n        };\n    }\n}\n");
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(INDEX_PACKAGE + "." + INDEX_CLASS);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write " + INDEX_CLASS + ": "
+                    + e.getMessage());
+        }
+    }
+}
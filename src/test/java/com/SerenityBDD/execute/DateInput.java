@@ -0,0 +1,95 @@
+package com.SerenityBDD.execute;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Classifies date values by their shape and remembers how each date field accepts input. The separator is found in
+ * one pass over the characters instead of attempting a parse with every formatter, and fields that take the whole
+ * date in a single sendKeys are not typed into piece by piece again. Input modes are learned per field and date
+ * shape, i.e. separator, since a field accepting "01/15/2023" at once may still need "January 5, 2023" retyped.
+ */
+public final class DateInput {
+
+    private static final Map<List<Object>, InputMode> INPUT_MODES = new ConcurrentHashMap<>();
+
+    private DateInput() {
+    }
+
+    /**
+     * Finds the separator a date value is typed with: "/" for MM/dd/yyyy and MM/dd/yy dates, "-" for MM-dd-yy dates
+     * and "" for every other value, which is then typed one character at a time.
+     *
+     * @param value The date value.
+     * @return String The separator of the date value.
+     */
+    public static String separatorOf(String value) {
+        int length = value.length();
+        if (length < 8 || !isMonthAndDay(value)) return "";
+        char separator = value.charAt(2);
+        if (separator != value.charAt(5)) return "";
+        if (separator == '-') return length == 8 && isDigits(value, 6, 8) ? "-" : "";
+        if (separator != '/') return "";
+        if (!isDigits(value, 6, length)) return "";
+        if (length == 8) return "/";
+        return length == 10 && Integer.parseInt(value, 6, length, 10) > 0 ? "/" : "";
+    }
+
+    /**
+     * Get the input mode learned for a date field and the shape of a value.
+     *
+     * @param byField The By locator for the date field.
+     * @param value   The date value to fill.
+     * @return InputMode The input mode, UNKNOWN until the field was filled once with a value of the same shape.
+     */
+    public static InputMode inputModeOf(By byField, String value) {
+        return INPUT_MODES.getOrDefault(List.of(byField, separatorOf(value)), InputMode.UNKNOWN);
+    }
+
+    /**
+     * Records how a date field accepts values of the shape of the given one.
+     *
+     * @param byField   The By locator for the date field.
+     * @param value     The date value the field was filled with.
+     * @param inputMode The input mode the field accepted.
+     */
+    public static void learning(By byField, String value, InputMode inputMode) {
+        INPUT_MODES.put(List.of(byField, separatorOf(value)), inputMode);
+    }
+
+    private static boolean isMonthAndDay(String value) {
+        if (!isDigits(value, 0, 2) || !isDigits(value, 3, 5)) return false;
+        int month = (value.charAt(0) - '0') * 10 + value.charAt(1) - '0';
+        int day = (value.charAt(3) - '0') * 10 + value.charAt(4) - '0';
+        return month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
+
+    private static boolean isDigits(String value, int from, int to) {
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+
+    /**
+     * Ways a date field accepts input.
+     */
+    public enum InputMode {
+        /**
+         * Not filled yet.
+         */
+        UNKNOWN,
+        /**
+         * Takes the whole date in a single sendKeys.
+         */
+        SINGLE,
+        /**
+         * Needs the parts of the date typed one by one, without separators.
+         */
+        PIECEWISE
+    }
+}
@@ -0,0 +1,225 @@
+package com.SerenityBDD.execute;
+
+import com.SerenityBDD.support.Locator;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads the state of many elements with a single script execution instead of one WebDriver round trip per element
+ * and property. Visibility is evaluated with the same isDisplayed atom WebDriver itself executes, so results match
+ * {@link org.openqa.selenium.WebElement#isDisplayed()}.
+ */
+public final class ElementProbe {
+
+    /**
+     * Location strategies the probe resolves in the browser. Other strategies, e.g. link text, are left to WebDriver.
+     */
+    static final Set<String> SUPPORTED_STRATEGIES = Set.of("css selector", "xpath", "tag name");
+
+    static final String FIND_ELEMENT_FUNCTION =
+            "function findElement(locator) {                                                        " +
+                    "  switch (locator[0]) {                                                        " +
+                    "    case 'css selector': return document.querySelector(locator[1]);            " +
+                    "    case 'tag name': return document.getElementsByTagName(locator[1])[0] || null;" +
+                    "    case 'xpath': return document.evaluate(locator[1], document, null,          " +
+                    "        XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;             " +
+                    "  }                                                                            " +
+                    "  return null;                                                                 " +
+                    "}                                                                              ";
+
+    private static final String IS_DISPLAYED_ATOM = readAtom("/org/openqa/selenium/remote/isDisplayed.js");
+
+    private static final String STATE_SCRIPT = IS_DISPLAYED_ATOM == null ? null :
+            "var isDisplayed = (" + IS_DISPLAYED_ATOM + ");                                          " +
+                    FIND_ELEMENT_FUNCTION +
+                    "function isSelected(element) {                                                 " +
+                    "  if (element.tagName === 'OPTION') return element.selected;                   " +
+                    "  if (element.tagName !== 'INPUT') return false;                               " +
+                    "  var type = (element.type || '').toLowerCase();                               " +
+                    "  return (type === 'checkbox' || type === 'radio') && element.checked;         " +
+                    "}                                                                              " +
+                    "return arguments[0].map(function (locator) {                                   " +
+                    "  var element = findElement(locator);                                          " +
+                    "  if (!element) return null;                                                   " +
+                    "  return [isDisplayed(element), !element.matches(':disabled'), isSelected(element)];" +
+                    "});                                                                            ";
+
+    /**
+     * Reads the visible text of an element the way {@link WebElement#getText()} does: empty when it is not displayed,
+     * with non-breaking spaces as plain spaces and trimmed.
+     */
+    private static final String TEXT_OF_FUNCTION = IS_DISPLAYED_ATOM == null ?
+            "function textOf(element) {                                                             " +
+                    "  return element.innerText.replace(/\\u00a0/g, ' ').trim();                     " +
+                    "}                                                                              " :
+            "var isDisplayed = (" + IS_DISPLAYED_ATOM + ");                                          " +
+                    "function textOf(element) {                                                     " +
+                    "  if (!isDisplayed(element)) return '';                                        " +
+                    "  return element.innerText.replace(/\\u00a0/g, ' ').trim();                     " +
+                    "}                                                                              ";
+
+    private static final String VALUE_SCRIPT = IS_DISPLAYED_ATOM == null ? null :
+            TEXT_OF_FUNCTION +
+                    FIND_ELEMENT_FUNCTION +
+                    "function valueOf(element, read) {                                             " +
+                    "  switch (read) {                                                              " +
+                    "    case 'VALUE': return element.value === undefined ? null : element.value;   " +
+                    "    case 'LABEL':                                                              " +
+                    "      var value = element.value;                                               " +
+                    "      if (value === undefined || value === null) value = element.getAttribute('value');" +
+                    "      return value === null ? textOf(element) : String(value);                 " +
+                    "    case 'SELECTED_OPTION':                                                    " +
+                    "      var options = element.selectedOptions;                                   " +
+                    "      return options && options.length ? textOf(options[0]) : null;            " +
+                    "    case 'SELECTED':                                                           " +
+                    "      if (element.tagName === 'OPTION') return element.selected;               " +
+                    "      return element.tagName === 'INPUT' && !!element.checked;                 " +
+                    "  }                                                                            " +
+                    "  return null;                                                                 " +
+                    "}                                                                              " +
+                    "return arguments[0].map(function (locator) {                                   " +
+                    "  var element = findElement(locator);                                          " +
+                    "  return element ? valueOf(element, locator[2]) : null;                        " +
+                    "});                                                                            ";
+
+    private static final String VISIBLE_ELEMENTS_SCRIPT = IS_DISPLAYED_ATOM == null ? null :
+            "var isDisplayed = (" + IS_DISPLAYED_ATOM + ");                                          " +
+                    FIND_ELEMENT_FUNCTION +
+                    "return arguments[0].map(function (locator) {                                   " +
+                    "  var element = findElement(locator);                                          " +
+                    "  return element && isDisplayed(element) ? element : null;                     " +
+                    "});                                                                            ";
+
+    private ElementProbe() {
+    }
+
+    /**
+     * Check if the probe can evaluate an element of the given locator in the browser.
+     *
+     * @param locator The locator of the element.
+     * @return True if the state of the element can be probed with a script, false if WebDriver has to be used.
+     */
+    public static boolean canProbe(Locator locator) {
+        return STATE_SCRIPT != null && SUPPORTED_STRATEGIES.contains(locator.strategy());
+    }
+
+    /**
+     * Reads the state of the first element matching each locator with one script execution.
+     *
+     * @param driver   The driver to execute the script with.
+     * @param locators The locators, each accepted by {@link #canProbe(Locator)}.
+     * @return List<ElementState> The state of each element, in the order of the locators.
+     */
+    public static List<ElementState> statesOf(WebDriver driver, List<Locator> locators) {
+        List<List<String>> arguments = new ArrayList<>(locators.size());
+        for (Locator locator : locators) arguments.add(locator.asScriptArgument());
+        List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(STATE_SCRIPT, arguments);
+        List<ElementState> states = new ArrayList<>(results.size());
+        for (Object result : results) {
+            if (result == null) {
+                states.add(ElementState.ABSENT);
+            } else {
+                List<?> state = (List<?>) result;
+                states.add(new ElementState(true, Boolean.TRUE.equals(state.get(0)), Boolean.TRUE.equals(state.get(1)),
+                        Boolean.TRUE.equals(state.get(2))));
+            }
+        }
+        return states;
+    }
+
+    /**
+     * Reads a value of the first element matching each locator with one script execution.
+     *
+     * @param driver   The driver to execute the script with.
+     * @param locators The locators, each accepted by {@link #canProbe(Locator)}.
+     * @param reads    What to read from each element, in the order of the locators.
+     * @return List<Object> The String value, or Boolean for {@link Read#SELECTED}, of each element. Null where no
+     * element matched or the element has no such value.
+     */
+    public static List<Object> valuesOf(WebDriver driver, List<Locator> locators, List<Read> reads) {
+        List<List<String>> arguments = new ArrayList<>(locators.size());
+        for (int i = 0; i < locators.size(); i++) {
+            Locator locator = locators.get(i);
+            arguments.add(List.of(locator.strategy(), locator.expression(), reads.get(i).name()));
+        }
+        return new ArrayList<>((List<?>) ((JavascriptExecutor) driver).executeScript(VALUE_SCRIPT, arguments));
+    }
+
+    /**
+     * Resolves the first element matching each locator with one script execution, if it is displayed.
+     *
+     * @param driver   The driver to execute the script with.
+     * @param locators The locators, each accepted by {@link #canProbe(Locator)}.
+     * @return List<WebElement> The element of each locator, null where no element matched or it is not displayed.
+     */
+    public static List<WebElement> visibleElementsOf(WebDriver driver, List<Locator> locators) {
+        List<List<String>> arguments = new ArrayList<>(locators.size());
+        for (Locator locator : locators) arguments.add(locator.asScriptArgument());
+        List<WebElement> elements = new ArrayList<>(locators.size());
+        for (Object element : (List<?>) ((JavascriptExecutor) driver).executeScript(VISIBLE_ELEMENTS_SCRIPT, arguments)) {
+            elements.add((WebElement) element);
+        }
+        return elements;
+    }
+
+    /**
+     * Prepends a textOf(element) function to a script, reading the visible text of an element like
+     * {@link WebElement#getText()}, so scripts reading many texts at once return the same values.
+     *
+     * @param script The script using textOf.
+     * @return String The script with textOf defined.
+     */
+    public static String withTextOf(String script) {
+        return TEXT_OF_FUNCTION + script;
+    }
+
+    private static String readAtom(String resource) {
+        try (InputStream atom = WebDriver.class.getResourceAsStream(resource)) {
+            return atom == null ? null : new String(atom.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Values the probe can read from an element.
+     */
+    public enum Read {
+        /**
+         * The value of a text field or text area.
+         */
+        VALUE,
+        /**
+         * The value attribute, or the visible text of elements without one.
+         */
+        LABEL,
+        /**
+         * The visible text of the first selected option of a dropdown.
+         */
+        SELECTED_OPTION,
+        /**
+         * Whether a checkbox, radio button or option is selected.
+         */
+        SELECTED
+    }
+
+    /**
+     * State of an element as read by the probe.
+     *
+     * @param present  Whether an element matched the locator.
+     * @param visible  Whether the element is displayed.
+     * @param enabled  Whether the element is enabled.
+     * @param selected Whether the element is a selected option, or a checked checkbox or radio button.
+     */
+    public record ElementState(boolean present, boolean visible, boolean enabled, boolean selected) {
+        static final ElementState ABSENT = new ElementState(false, false, false, false);
+    }
+}
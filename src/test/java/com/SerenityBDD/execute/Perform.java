@@ -1,7 +1,12 @@
 package com.SerenityBDD.execute;
 
+import com.SerenityBDD.state.AdaptiveWait;
 import com.SerenityBDD.state.VerifyStateOf;
-import com.SerenityBDD.support.DataObjectOperations;
+import com.SerenityBDD.state.WaitMode;
+import com.SerenityBDD.support.ElementCache;
+import com.SerenityBDD.support.Locator;
+import com.SerenityBDD.support.LocatorCache;
+import com.SerenityBDD.support.ScenarioContext;
 import net.serenitybdd.core.pages.PageObject;
 import org.openqa.selenium.*;
 import org.openqa.selenium.NoSuchElementException;
@@ -11,8 +16,6 @@ import org.slf4j.LoggerFactory;
 import org.slf4j.spi.LoggingEventBuilder;
 
 import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 public class Perform extends PageObject {
@@ -28,11 +31,16 @@ public class Perform extends PageObject {
      * @throws RuntimeException If there is an IllegalAccessException when accessing the field.
      */
     public By fieldToInteract(Field field, Class<?> pageClass) {
-        try {
-            return (By) field.get(pageClass);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
+        return LocatorCache.locatorOf(field, pageClass);
+    }
+
+    /**
+     * Get the element cache of the running scenario.
+     *
+     * @return ElementCache The element cache of the running scenario.
+     */
+    public ElementCache elementCache() {
+        return ScenarioContext.current().elementCache();
     }
 
     /**
@@ -44,7 +52,8 @@ public class Perform extends PageObject {
      */
     public void settingFieldValue(Field field, Class<?> pageClass, String value) {
         By fieldToFill = fieldToInteract(field, pageClass);
-        waitForCondition().until(ExpectedConditions.visibilityOfElementLocated(fieldToFill));
+        WaitMode.explicitlyWaitingFor(this, AdaptiveWait.keyOf(field, pageClass, "visible"),
+                ExpectedConditions.visibilityOfElementLocated(fieldToFill));
         settingFieldValue(fieldToFill, value);
     }
 
@@ -55,7 +64,7 @@ public class Perform extends PageObject {
      * @param value   The value to be set in the HTML element.
      */
     public void settingFieldValue(By byField, String value) {
-        getDriver().findElement(byField).sendKeys(value);
+        elementCache().actingOn(getDriver(), byField, element -> element.sendKeys(value));
     }
 
     /**
@@ -66,7 +75,8 @@ public class Perform extends PageObject {
      */
     public void clickOn(Field field, Class<?> pageClass) {
         By fieldToClick = fieldToInteract(field, pageClass);
-        waitForCondition().until(ExpectedConditions.elementToBeClickable(fieldToClick));
+        WaitMode.explicitlyWaitingFor(this, AdaptiveWait.keyOf(field, pageClass, "clickable"),
+                ExpectedConditions.elementToBeClickable(fieldToClick));
         clickOn(fieldToClick);
     }
 
@@ -76,8 +86,7 @@ public class Perform extends PageObject {
      * @param byField The By locator for the HTML element.
      */
     public void clickOn(By byField) {
-        WebElement elementToClick = getDriver().findElement(byField);
-        clickOn(elementToClick);
+        elementCache().actingOn(getDriver(), byField, this::clickOn);
     }
 
     /**
@@ -87,6 +96,7 @@ public class Perform extends PageObject {
      */
     public void clickOn(WebElement elementToClick) {
         elementToClick.click();
+        elementCache().revalidate();
     }
 
     /**
@@ -108,7 +118,7 @@ public class Perform extends PageObject {
      * @return WebElement The WebElement identified by the provided By locator.
      */
     public WebElement getWebElement(By byElement) {
-        return getDriver().findElement(byElement);
+        return elementCache().find(getDriver(), byElement);
     }
 
     /**
@@ -161,8 +171,7 @@ public class Perform extends PageObject {
      * @return String The value of the text field identified by the provided By locator.
      */
     public String gettingTextFieldValue(By byField) {
-        WebElement fieldValueToGet = getDriver().findElement(byField);
-        return fieldValueToGet.getAttribute("value");
+        return elementCache().readingFrom(getDriver(), byField, element -> element.getAttribute("value"));
     }
 
     /**
@@ -172,8 +181,8 @@ public class Perform extends PageObject {
      * @return String The text of the selected option in the dropdown identified by the provided By locator.
      */
     public String gettingDropdownValue(By byField) {
-        WebElement dropdownElement = getDriver().findElement(byField);
-        return new Select(dropdownElement).getFirstSelectedOption().getText();
+        return elementCache().readingFrom(getDriver(), byField,
+                element -> new Select(element).getFirstSelectedOption().getText());
     }
 
     /**
@@ -183,7 +192,7 @@ public class Perform extends PageObject {
      * @return String The status ("Selected" or "Unselected") of the radio button identified by the provided By locator.
      */
     public String gettingRadioStatus(By byField) {
-        if (getDriver().findElement(byField).isSelected()) {
+        if (elementCache().readingFrom(getDriver(), byField, WebElement::isSelected)) {
             return "Selected";
         } else {
             return "Unselected";
@@ -242,17 +251,81 @@ public class Perform extends PageObject {
      * Retrieves the state of a field (visibility, read-only, selected) identified by a By locator.
      *
      * @param byField The By locator for the field.
-     * @return HashMap<String, Boolean> A HashMap containing field states, including "not visible," "visible," "readonly," and "selected."
+     * @return HashMap<String, Boolean> A HashMap containing field states, including "not visible," "visible," "readonly," "selected" and "present."
      */
     public HashMap<String, Boolean> gettingFieldState(By byField) {
+        return gettingFieldStates(Collections.singletonList(byField)).get(byField);
+    }
+
+    /**
+     * Retrieves the states of several fields (visibility, read-only, selected) with a single script execution. A
+     * field the script does not find is reported as not present right away, without waiting for it. Fields whose
+     * locator the script cannot evaluate, or all fields if the script fails, are read through WebDriver one at a time
+     * with the implicit wait switched off.
+     *
+     * @param byFields The By locators for the fields.
+     * @return Map<By, HashMap<String, Boolean>> The state of each field, in the same shape as {@link #gettingFieldState(By)}.
+     */
+    public Map<By, HashMap<String, Boolean>> gettingFieldStates(List<By> byFields) {
+        Map<By, HashMap<String, Boolean>> fieldStates = new LinkedHashMap<>();
+        List<By> probedFields = new ArrayList<>();
+        List<Locator> probedLocators = new ArrayList<>();
+        for (By byField : byFields) {
+            if (fieldStates.containsKey(byField)) continue;
+            Optional<Locator> locator = Locator.of(byField).filter(ElementProbe::canProbe);
+            if (locator.isPresent()) {
+                probedFields.add(byField);
+                probedLocators.add(locator.get());
+            }
+            fieldStates.put(byField, null);
+        }
+        if (!probedLocators.isEmpty()) {
+            try {
+                List<ElementProbe.ElementState> states = ElementProbe.statesOf(getDriver(), probedLocators);
+                for (int i = 0; i < probedFields.size(); i++) {
+                    ElementProbe.ElementState state = states.get(i);
+                    fieldStates.put(probedFields.get(i), state.present() ? fieldStateOf(state) : absentFieldState());
+                }
+            } catch (WebDriverException e) {
+                LOGGER_INFO.log("Unable to probe the field states with a script, reading them one at a time.");
+            }
+        }
+        fieldStates.replaceAll((byField, fieldState) -> fieldState != null ? fieldState
+                : WaitMode.withoutImplicitWait(this, () -> readingFieldState(byField)));
+        return fieldStates;
+    }
+
+    private HashMap<String, Boolean> fieldStateOf(ElementProbe.ElementState state) {
         HashMap<String, Boolean> fieldState = new HashMap<>();
+        fieldState.put("present", true);
+        fieldState.put("not visible", !state.visible());
+        fieldState.put("visible", state.visible());
+        fieldState.put("readonly", !state.enabled());
+        fieldState.put("selected", state.selected());
+        return fieldState;
+    }
+
+    private HashMap<String, Boolean> absentFieldState() {
+        HashMap<String, Boolean> fieldState = new HashMap<>();
+        fieldState.put("present", false);
+        fieldState.put("not visible", true);
+        fieldState.put("visible", false);
+        fieldState.put("readonly", false);
+        fieldState.put("selected", false);
+        return fieldState;
+    }
+
+    private HashMap<String, Boolean> readingFieldState(By byField) {
+        HashMap<String, Boolean> fieldState;
         WebElement element = null;
         try {
             element = getDriver().findElement(byField);
+            fieldState = new HashMap<>();
+            fieldState.put("present", true);
             fieldState.put("not visible", !element.isDisplayed());
             fieldState.put("visible", element.isDisplayed());
         } catch (NoSuchElementException e) {
-            fieldState.put("not visible", true);
+            fieldState = absentFieldState();
         }
         if (element != null) {
             fieldState.put("visible", element.isDisplayed());
@@ -322,6 +395,18 @@ public class Perform extends PageObject {
      */
     public String gettingFieldValue(Field field, Class<?> pageClass, FieldType fieldType) {
         By fieldValueToGet = fieldToInteract(field, pageClass);
+        return gettingFieldValue(fieldValueToGet, fieldType);
+    }
+
+    /**
+     * Retrieves the value of a field based on its type and its By locator.
+     *
+     * @param fieldValueToGet The By locator for the field.
+     * @param fieldType       The type of the field, such as TEXT_FIELD, TEXTAREA, DATE_FIELD, LABEL, DATE_LABEL, DROPDOWN, RADIO, or CHECKBOX.
+     * @return String   The value of the field as a String.
+     * @throws RuntimeException If an unsupported field type is provided.
+     */
+    public String gettingFieldValue(By fieldValueToGet, FieldType fieldType) {
         switch (fieldType) {
             case TEXT_FIELD, TEXTAREA, DATE_FIELD -> {
                 return gettingTextFieldValue(fieldValueToGet);
@@ -342,6 +427,53 @@ public class Perform extends PageObject {
         throw new RuntimeException("Unsupported field type: " + fieldType);
     }
 
+    /**
+     * Retrieves the values of several fields with a single script execution. Fields the script cannot locate, or
+     * cannot evaluate, are read through WebDriver one at a time as {@link #gettingFieldValue(By, FieldType)} does.
+     *
+     * @param fieldsToRead The By locator and type of each field.
+     * @return List<String> The value of each field, in the order of the fields.
+     */
+    public List<String> gettingFieldValues(List<FieldToRead> fieldsToRead) {
+        String[] fieldValues = new String[fieldsToRead.size()];
+        List<Integer> probedFields = new ArrayList<>();
+        List<Locator> probedLocators = new ArrayList<>();
+        List<ElementProbe.Read> probedReads = new ArrayList<>();
+        for (int i = 0; i < fieldsToRead.size(); i++) {
+            FieldToRead fieldToRead = fieldsToRead.get(i);
+            Optional<Locator> locator = Locator.of(fieldToRead.byField()).filter(ElementProbe::canProbe);
+            if (locator.isPresent()) {
+                probedFields.add(i);
+                probedLocators.add(locator.get());
+                probedReads.add(FieldType.resoluteRead(fieldToRead.fieldType()));
+            }
+        }
+        if (!probedLocators.isEmpty()) {
+            try {
+                List<Object> values = ElementProbe.valuesOf(getDriver(), probedLocators, probedReads);
+                for (int i = 0; i < probedFields.size(); i++) {
+                    int field = probedFields.get(i);
+                    fieldValues[field] = fieldValueOf(values.get(i), fieldsToRead.get(field).fieldType());
+                }
+            } catch (WebDriverException e) {
+                LOGGER_INFO.log("Unable to read the field values with a script, reading them one at a time.");
+            }
+        }
+        for (int i = 0; i < fieldValues.length; i++) {
+            FieldToRead fieldToRead = fieldsToRead.get(i);
+            if (fieldValues[i] == null) fieldValues[i] = gettingFieldValue(fieldToRead.byField(), fieldToRead.fieldType());
+        }
+        return Arrays.asList(fieldValues);
+    }
+
+    private String fieldValueOf(Object value, FieldType fieldType) {
+        if (!(value instanceof Boolean selected)) return (String) value;
+        return switch (fieldType) {
+            case CHECKBOX -> selected ? "Checked" : "Unchecked";
+            default -> selected ? "Selected" : "Unselected";
+        };
+    }
+
     /**
      * Retrieves the value of an HTML element identified by a By locator.
      *
@@ -349,10 +481,11 @@ public class Perform extends PageObject {
      * @return String The value of the HTML element identified by the provided By locator.
      */
     public String gettingFieldValue(By byField) {
-        WebElement fieldValueToGet = getDriver().findElement(byField);
-        String value = fieldValueToGet.getAttribute("value");
-        value = value == null ? fieldValueToGet.getText() : value;
-        return value;
+        return elementCache().readingFrom(getDriver(), byField, fieldValueToGet -> {
+            String value = fieldValueToGet.getAttribute("value");
+            value = value == null ? fieldValueToGet.getText() : value;
+            return value;
+        });
     }
 
     /**
@@ -364,7 +497,8 @@ public class Perform extends PageObject {
      */
     public void settingDateFieldValue(Field field, Class<?> pageClass, String value) {
         By fieldToFill = fieldToInteract(field, pageClass);
-        waitForCondition().until(ExpectedConditions.visibilityOfElementLocated(fieldToFill));
+        WaitMode.explicitlyWaitingFor(this, AdaptiveWait.keyOf(field, pageClass, "visible"),
+                ExpectedConditions.visibilityOfElementLocated(fieldToFill));
         settingDateFieldValue(fieldToFill, value);
     }
 
@@ -376,35 +510,37 @@ public class Perform extends PageObject {
      */
     public void settingDateFieldValue(By byField, String value) {
         // Clear the date field to ensure no previous values are present.
-        getDriver().findElement(byField).clear();
-
-        // Attempt to parse the date using different date formatters.
-        ArrayList<DateTimeFormatter> formatters = DataObjectOperations.DateTimeFormatters.getFormattersList();
-        String separator = "";
-        LocalDate date;
-        for (DateTimeFormatter formatter : formatters) {
-            try {
-                date = LocalDate.parse(value, formatter);
-                String formattedDate = formatter.format(date);
-                separator = formattedDate.contains("/") ? "/" : "-";
-                if (separator.equals("-")) separator = formattedDate.contains("-") ? "-" : "";
-                break;
-            } catch (Exception ignored) {
+        elementCache().actingOn(getDriver(), byField, WebElement::clear);
+
+        // Determine the separator from the shape of the date value.
+        String separator = DateInput.separatorOf(value);
+
+        // Enter the whole date at once unless the field is known to need it piece by piece.
+        DateInput.InputMode inputMode = DateInput.inputModeOf(byField, value);
+        if (inputMode != DateInput.InputMode.PIECEWISE) {
+            elementCache().actingOn(getDriver(), byField, element -> element.sendKeys(value, Keys.ESCAPE));
+            // Values without a known separator vary in shape too much to trust a learned mode, so they are read back.
+            if (inputMode == DateInput.InputMode.SINGLE && !separator.isEmpty()) return;
+            if (gettingFieldValue(byField).equals(value)) {
+                DateInput.learning(byField, value, DateInput.InputMode.SINGLE);
+                return;
             }
+            DateInput.learning(byField, value, DateInput.InputMode.PIECEWISE);
+            elementCache().actingOn(getDriver(), byField, WebElement::clear);
         }
 
         // Split the date value based on the determined separator and enter each part.
         String[] splitValue = value.split(separator);
         for (String val : splitValue) {
-            getDriver().findElement(byField).sendKeys(val);
+            elementCache().actingOn(getDriver(), byField, element -> element.sendKeys(val));
         }
 
         // Send the ESCAPE key to exit date entry mode if needed.
-        getDriver().findElement(byField).sendKeys(Keys.ESCAPE);
+        elementCache().actingOn(getDriver(), byField, element -> element.sendKeys(Keys.ESCAPE));
 
         // If the entered date does not contain the determined separator, clear and set the value again.
         if (!gettingFieldValue(byField).contains(separator)) {
-            getDriver().findElement(byField).clear();
+            elementCache().actingOn(getDriver(), byField, WebElement::clear);
             settingFieldValue(byField, value);
         }
     }
@@ -418,7 +554,8 @@ public class Perform extends PageObject {
      */
     public void settingDropdownValue(Field field, Class<?> pageClass, String value) {
         By fieldToSelect = fieldToInteract(field, pageClass);
-        waitForCondition().until(ExpectedConditions.visibilityOfElementLocated(fieldToSelect));
+        WaitMode.explicitlyWaitingFor(this, AdaptiveWait.keyOf(field, pageClass, "visible"),
+                ExpectedConditions.visibilityOfElementLocated(fieldToSelect));
         settingDropdownValue(fieldToSelect, value);
     }
 
@@ -429,8 +566,7 @@ public class Perform extends PageObject {
      * @param value   The value to select from the dropdown.
      */
     public void settingDropdownValue(By byField, String value) {
-        Select field = new Select(getDriver().findElement(byField));
-        field.selectByVisibleText(value);
+        elementCache().actingOn(getDriver(), byField, element -> new Select(element).selectByVisibleText(value));
     }
 
     /**
@@ -442,7 +578,8 @@ public class Perform extends PageObject {
      */
     public void settingCheckboxAs(Field field, Class<?> pageClass, String value) {
         By checkboxField = fieldToInteract(field, pageClass);
-        waitForCondition().until(ExpectedConditions.visibilityOfElementLocated(checkboxField));
+        WaitMode.explicitlyWaitingFor(this, AdaptiveWait.keyOf(field, pageClass, "visible"),
+                ExpectedConditions.visibilityOfElementLocated(checkboxField));
         settingCheckboxAs(checkboxField, value);
     }
 
@@ -453,8 +590,7 @@ public class Perform extends PageObject {
      * @param value   The desired state for the checkbox ("checked" or "unchecked").
      */
     public void settingCheckboxAs(By byField, String value) {
-        WebElement checkbox = getDriver().findElement(byField);
-        settingCheckboxAs(checkbox, value);
+        elementCache().actingOn(getDriver(), byField, checkbox -> settingCheckboxAs(checkbox, value));
     }
 
     /**
@@ -468,6 +604,7 @@ public class Perform extends PageObject {
         boolean expectedState = value.equalsIgnoreCase("checked");
         if ((!checkboxState && expectedState) || (checkboxState && !expectedState)) {
             checkbox.click();
+            elementCache().revalidate();
         } else if (checkboxState == expectedState) {
             LOGGER_INFO.log("Checkbox state is already as expected i.e.: " + value);
         } else if (!value.equalsIgnoreCase("checked") && !value.equalsIgnoreCase("unchecked")) {
@@ -478,11 +615,85 @@ public class Perform extends PageObject {
         }
     }
 
+    /**
+     * Fills several form fields at once. Each field is waited for and resolved only when its turn comes, so fields
+     * revealed by an earlier one can follow it, and a cached element that turned stale is looked up again. Each field
+     * is set with as few WebDriver commands as its type allows, or, with scripted values, the fields that are visible
+     * together are set with a single script execution that dispatches input and change events.
+     *
+     * @param fieldsToFill   The By locator, type and value of each field, in the order they are filled.
+     * @param scriptedValues Whether to set the values with a script instead of typing them.
+     * @throws IllegalArgumentException If a field type other than text field, textarea, date field, dropdown or
+     *                                  checkbox is provided, or a checkbox value other than "checked" or "unchecked"
+     *                                  is scripted.
+     */
+    public void fillingForm(List<FieldToFill> fieldsToFill, boolean scriptedValues) {
+        List<ValueSetter.Setter> setters = new ArrayList<>(fieldsToFill.size());
+        for (FieldToFill fieldToFill : fieldsToFill) setters.add(FieldType.resoluteSetter(fieldToFill.fieldType()));
+        if (scriptedValues) {
+            int filled = 0;
+            while (filled < fieldsToFill.size()) {
+                List<FieldToFill> pendingFields = fieldsToFill.subList(filled, fieldsToFill.size());
+                List<ValueSetter.Setter> pendingSetters = setters.subList(filled, setters.size());
+                try {
+                    filled += settingVisibleFields(pendingFields, pendingSetters);
+                } catch (StaleElementReferenceException e) {
+                    elementCache().invalidate();
+                    filled += settingVisibleFields(pendingFields, pendingSetters);
+                }
+                elementCache().revalidate();
+            }
+            return;
+        }
+        for (FieldToFill fieldToFill : fieldsToFill) {
+            By byField = fieldToFill.byField();
+            WaitMode.explicitlyWaitingFor(this, ExpectedConditions.visibilityOfElementLocated(byField));
+            switch (fieldToFill.fieldType()) {
+                case TEXT_FIELD, TEXTAREA -> settingFieldValue(byField, fieldToFill.value());
+                case DATE_FIELD -> settingDateFieldValue(byField, fieldToFill.value());
+                case DROPDOWN -> settingDropdownValue(byField, fieldToFill.value());
+                case CHECKBOX -> settingCheckboxAs(byField, fieldToFill.value());
+            }
+        }
+    }
+
+    /**
+     * Sets the first field once it is visible, together with the fields directly following it that are visible at
+     * the same time, with one script execution. The visibility of the following fields is checked with one script
+     * execution too; a field whose locator cannot be probed ends the run.
+     *
+     * @param fieldsToFill The fields left to fill.
+     * @param setters      How each of those fields is set.
+     * @return int The number of fields set.
+     */
+    private int settingVisibleFields(List<FieldToFill> fieldsToFill, List<ValueSetter.Setter> setters) {
+        By firstField = fieldsToFill.get(0).byField();
+        WaitMode.explicitlyWaitingFor(this, ExpectedConditions.visibilityOfElementLocated(firstField));
+        List<WebElement> elements = new ArrayList<>();
+        elements.add(elementCache().find(getDriver(), firstField));
+        List<Locator> followingLocators = new ArrayList<>();
+        for (FieldToFill fieldToFill : fieldsToFill.subList(1, fieldsToFill.size())) {
+            Optional<Locator> locator = Locator.of(fieldToFill.byField()).filter(ElementProbe::canProbe);
+            if (locator.isEmpty()) break;
+            followingLocators.add(locator.get());
+        }
+        if (!followingLocators.isEmpty()) {
+            for (WebElement element : ElementProbe.visibleElementsOf(getDriver(), followingLocators)) {
+                if (element == null) break;
+                elements.add(element);
+            }
+        }
+        List<String> values = fieldsToFill.subList(0, elements.size()).stream().map(FieldToFill::value).toList();
+        ValueSetter.settingValues(getDriver(), elements, setters.subList(0, elements.size()), values);
+        return elements.size();
+    }
+
     /**
      * Refreshes the current page in the web browser.
      */
     public void pageRefresh() {
         getDriver().navigate().refresh();
+        elementCache().invalidate();
     }
 
     /**
@@ -490,6 +701,7 @@ public class Perform extends PageObject {
      */
     public void headingToPreviousPage() {
         getDriver().navigate().back();
+        elementCache().invalidate();
     }
 
     /**
@@ -498,13 +710,18 @@ public class Perform extends PageObject {
      * @return Set<String> A set of window handles as strings.
      */
     public Set<String> gettingWindowHandles() {
-        try {
-            // Wait for new window to open if expected
-            Thread.sleep(2000);
-        } catch (InterruptedException e) {
-            throw new RuntimeException(e);
-        }
-        return getDriver().getWindowHandles();
+        return ScenarioContext.current().windowManager().handles(getDriver());
+    }
+
+    /**
+     * Retrieves the set of window handles once the expected number of windows is open, waiting briefly for windows
+     * that are still opening or closing.
+     *
+     * @param expectedCount The number of windows expected to be open.
+     * @return Set<String> A set of window handles as strings.
+     */
+    public Set<String> gettingWindowHandles(int expectedCount) {
+        return ScenarioContext.current().windowManager().awaitingHandleCount(getDriver(), expectedCount);
     }
 
     /**
@@ -514,45 +731,8 @@ public class Perform extends PageObject {
      * @param matchingParameter The parameter to match for identifying the window handle.
      */
     public void switchToWindowHandle(WindowHandleClassificationType type, String matchingParameter) {
-        Set<String> windowHandles = gettingWindowHandles();
-        if (windowHandles.size() == 1) {
-            getDriver().switchTo().window((String) windowHandles.toArray()[0]);
-        }
-        boolean windowFound = false;
-        for (int attempt = 1; attempt <= 20; attempt++) { // Attempt 20 times to switch and find the matching pattern
-            try {
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                throw new RuntimeException(e);
-            }
-            if (type.equals(WindowHandleClassificationType.TITLE_MATCH)) {
-                for (String handle : windowHandles) {
-                    getDriver().switchTo().window(handle);
-                    if (getDriver().getTitle().contains(matchingParameter)) {
-                        windowFound = true;
-                        break;
-                    }
-                }
-            } else if (type.equals(WindowHandleClassificationType.URL_SUBSTRING)) {
-                for (String handle : windowHandles) {
-                    getDriver().switchTo().window(handle);
-                    if (getDriver().getCurrentUrl().contains(matchingParameter)) {
-                        windowFound = true;
-                        break;
-                    }
-                }
-            }
-            if (windowFound) {
-                LOGGER_INFO.log("Window found: TRUE. Switched to window with title: "
-                        + getDriver().getTitle());
-                break;
-            }
-            LOGGER_INFO.log("Attempt No." + attempt + " to locate window with handle of type: " + type);
-        }
-        if (!windowFound) {
-            throw new RuntimeException("Unable to find window with type: " + type +
-                    " and value: " + matchingParameter);
-        }
+        ScenarioContext.current().windowManager().switchingTo(getDriver(), type, matchingParameter);
+        elementCache().invalidate();
     }
 
     /**
@@ -562,16 +742,8 @@ public class Perform extends PageObject {
      * @param matchingParameter              The parameter used to match the window handle.
      */
     public void closingWindow(WindowHandleClassificationType windowHandleClassificationType, String matchingParameter) {
-        boolean rightWindowFocused = false;
-        if (windowHandleClassificationType.equals(WindowHandleClassificationType.TITLE_MATCH)) {
-            rightWindowFocused = getDriver().getTitle().equals(matchingParameter);
-        } else if (windowHandleClassificationType.equals(WindowHandleClassificationType.URL_SUBSTRING)) {
-            rightWindowFocused = getDriver().getCurrentUrl().contains(matchingParameter);
-        }
-        if (!rightWindowFocused) {
-            switchToWindowHandle(windowHandleClassificationType, matchingParameter);
-        }
-        getDriver().close();
+        ScenarioContext.current().windowManager().closing(getDriver(), windowHandleClassificationType, matchingParameter);
+        elementCache().invalidate();
     }
 
     /**
@@ -582,6 +754,25 @@ public class Perform extends PageObject {
         URL_SUBSTRING
     }
 
+    /**
+     * A field to read with {@link #gettingFieldValues(List)}.
+     *
+     * @param byField   The By locator for the field.
+     * @param fieldType The type of the field.
+     */
+    public record FieldToRead(By byField, FieldType fieldType) {
+    }
+
+    /**
+     * A field to fill with {@link #fillingForm(List, boolean)}.
+     *
+     * @param byField   The By locator for the field.
+     * @param fieldType The type of the field.
+     * @param value     The value to set in the field.
+     */
+    public record FieldToFill(By byField, FieldType fieldType, String value) {
+    }
+
     /**
      * An enumeration representing different field types.
      */
@@ -616,6 +807,37 @@ public class Perform extends PageObject {
             };
         }
 
+        /**
+         * Resolves what {@link ElementProbe} reads for a FieldType, matching {@link Perform#gettingFieldValue(By, FieldType)}.
+         *
+         * @param fieldType The FieldType.
+         * @return ElementProbe.Read The value to read from the element.
+         */
+        static ElementProbe.Read resoluteRead(FieldType fieldType) {
+            return switch (fieldType) {
+                case TEXT_FIELD, TEXTAREA, DATE_FIELD -> ElementProbe.Read.VALUE;
+                case LABEL, DATE_LABEL -> ElementProbe.Read.LABEL;
+                case DROPDOWN -> ElementProbe.Read.SELECTED_OPTION;
+                case RADIO, CHECKBOX -> ElementProbe.Read.SELECTED;
+            };
+        }
+
+        /**
+         * Resolves how {@link ValueSetter} sets a FieldType.
+         *
+         * @param fieldType The FieldType.
+         * @return ValueSetter.Setter The way the field is set.
+         * @throws IllegalArgumentException If the field type cannot be filled.
+         */
+        static ValueSetter.Setter resoluteSetter(FieldType fieldType) {
+            return switch (fieldType) {
+                case TEXT_FIELD, TEXTAREA, DATE_FIELD -> ValueSetter.Setter.VALUE;
+                case DROPDOWN -> ValueSetter.Setter.OPTION;
+                case CHECKBOX -> ValueSetter.Setter.CHECK;
+                default -> throw new IllegalArgumentException("Unknown field type: " + resoluteFieldName(fieldType));
+            };
+        }
+
         /**
          * Resolves the field name associated with a FieldType.
          *
@@ -0,0 +1,98 @@
+package com.SerenityBDD.execute;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sets the values of many form fields with one script execution. Values are written through the native value
+ * setter and followed by "input" and "change" events, so frameworks tracking the field state see the change as if it
+ * was typed. Checkboxes are clicked rather than assigned, which fires their events natively.
+ */
+public final class ValueSetter {
+
+    private static final String SET_VALUES_SCRIPT =
+            "function setValue(element, value) {                                                    " +
+                    "  var prototype = Object.getPrototypeOf(element);                              " +
+                    "  var descriptor = Object.getOwnPropertyDescriptor(prototype, 'value');        " +
+                    "  if (descriptor && descriptor.set) descriptor.set.call(element, value);       " +
+                    "  else element.value = value;                                                  " +
+                    "}                                                                              " +
+                    "function notify(element) {                                                     " +
+                    "  element.dispatchEvent(new Event('input', {bubbles: true}));                  " +
+                    "  element.dispatchEvent(new Event('change', {bubbles: true}));                 " +
+                    "}                                                                              " +
+                    "var elements = arguments[0], fields = arguments[1], failures = [];             " +
+                    "elements.forEach(function (element, i) {                                       " +
+                    "  var kind = fields[i][0], value = fields[i][1];                               " +
+                    "  switch (kind) {                                                              " +
+                    "    case 'VALUE':                                                              " +
+                    "      element.focus();                                                         " +
+                    "      setValue(element, value);                                                " +
+                    "      notify(element);                                                         " +
+                    "      element.blur();                                                          " +
+                    "      break;                                                                   " +
+                    "    case 'OPTION':                                                             " +
+                    "      var option = Array.prototype.find.call(element.options, function (o) {   " +
+                    "        return o.text.replace(/\\s+/g, ' ').trim() === value.trim();           " +
+                    "      });                                                                      " +
+                    "      if (!option) { failures.push('Cannot locate option with text: ' + value); break; }" +
+                    "      option.selected = true;                                                  " +
+                    "      notify(element);                                                         " +
+                    "      break;                                                                   " +
+                    "    case 'CHECK':                                                              " +
+                    "      if (element.checked !== (value.toLowerCase() === 'checked')) element.click();" +
+                    "      break;                                                                   " +
+                    "  }                                                                            " +
+                    "});                                                                            " +
+                    "return failures;                                                               ";
+
+    private ValueSetter() {
+    }
+
+    /**
+     * Sets the values of many form fields with one script execution.
+     *
+     * @param driver   The driver to execute the script with.
+     * @param elements The form fields.
+     * @param setters  How each field is set, in the order of the elements.
+     * @param values   The value of each field, in the order of the elements.
+     * @throws IllegalArgumentException If a checkbox value is neither "checked" nor "unchecked".
+     * @throws RuntimeException         If a dropdown has no option with the given text.
+     */
+    public static void settingValues(WebDriver driver, List<WebElement> elements, List<Setter> setters,
+                                     List<String> values) {
+        List<List<String>> fields = new ArrayList<>(elements.size());
+        for (int i = 0; i < elements.size(); i++) {
+            if (setters.get(i) == Setter.CHECK && !values.get(i).equalsIgnoreCase("checked")
+                    && !values.get(i).equalsIgnoreCase("unchecked")) {
+                throw new IllegalArgumentException("Incorrect value provided for setting the checkbox. It should " +
+                        "either be 'Checked' or 'Unchecked' (Case-Insensitive)");
+            }
+            fields.add(List.of(setters.get(i).name(), values.get(i)));
+        }
+        List<?> failures = (List<?>) ((JavascriptExecutor) driver).executeScript(SET_VALUES_SCRIPT, elements, fields);
+        if (!failures.isEmpty()) throw new RuntimeException("Unable to set the form fields: " + failures);
+    }
+
+    /**
+     * Ways a form field is set.
+     */
+    public enum Setter {
+        /**
+         * Assign the value of a text field, text area or date field.
+         */
+        VALUE,
+        /**
+         * Select the dropdown option with the given visible text.
+         */
+        OPTION,
+        /**
+         * Click a checkbox unless it is already "checked" or "unchecked" as given.
+         */
+        CHECK
+    }
+}
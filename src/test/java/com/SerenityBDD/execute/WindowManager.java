@@ -0,0 +1,163 @@
+package com.SerenityBDD.execute;
+
+import org.openqa.selenium.NoSuchWindowException;
+import org.openqa.selenium.WebDriver;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Tracks the browser windows of a scenario. The handles seen so far are remembered, so a window opened by the last
+ * action is found by comparing handle sets, and the title and URL read from each window are cached so matching a
+ * window does not require switching into every open window. Waits poll with a short interval that grows while
+ * nothing changes, instead of sleeping for a fixed time.
+ */
+public class WindowManager {
+    public final LoggingEventBuilder LOGGER_INFO = LoggerFactory.getLogger(WindowManager.class).atInfo();
+
+    static final Duration SWITCH_TIMEOUT = Duration.ofSeconds(40);
+    static final Duration HANDLE_COUNT_TIMEOUT = Duration.ofSeconds(5);
+    static final long INITIAL_POLLING_MILLIS = 50;
+    static final long MAX_POLLING_MILLIS = 1000;
+
+    private final Set<String> knownHandles = new LinkedHashSet<>();
+    private final Map<String, WindowInfo> windows = new HashMap<>();
+
+    /**
+     * Reads the handles of the open windows and records them as known.
+     *
+     * @param driver The driver of the scenario.
+     * @return Set<String> The handles of the open windows.
+     */
+    public Set<String> handles(WebDriver driver) {
+        Set<String> handles = driver.getWindowHandles();
+        recordingHandles(handles);
+        return handles;
+    }
+
+    /**
+     * Waits until the given number of windows is open, or the handle count stops short of it for
+     * {@link #HANDLE_COUNT_TIMEOUT}.
+     *
+     * @param driver        The driver of the scenario.
+     * @param expectedCount The number of windows expected to be open.
+     * @return Set<String> The handles of the open windows when the count matched, or when the wait ran out.
+     */
+    public Set<String> awaitingHandleCount(WebDriver driver, int expectedCount) {
+        long deadline = System.nanoTime() + HANDLE_COUNT_TIMEOUT.toNanos();
+        long polling = INITIAL_POLLING_MILLIS;
+        Set<String> handles = handles(driver);
+        while (handles.size() != expectedCount && System.nanoTime() < deadline) {
+            polling = pausing(polling);
+            handles = handles(driver);
+        }
+        return handles;
+    }
+
+    /**
+     * Switches to the window whose title contains, or whose URL contains, the matching parameter. Windows opened since
+     * the handles were last recorded are checked first, and cached windows whose title or URL already match are
+     * switched to directly.
+     *
+     * @param driver            The driver of the scenario.
+     * @param type              The classification type for identifying the window handle (TITLE_MATCH or URL_SUBSTRING).
+     * @param matchingParameter The parameter to match for identifying the window handle.
+     * @throws RuntimeException If no window matches within {@link #SWITCH_TIMEOUT}.
+     */
+    public void switchingTo(WebDriver driver, Perform.WindowHandleClassificationType type, String matchingParameter) {
+        long deadline = System.nanoTime() + SWITCH_TIMEOUT.toNanos();
+        long polling = INITIAL_POLLING_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            Set<String> handles = driver.getWindowHandles();
+            List<String> candidates = new ArrayList<>(handles);
+            candidates.removeAll(knownHandles);
+            for (String handle : handles) if (!candidates.contains(handle)) candidates.add(handle);
+            recordingHandles(handles);
+            boolean readAll = attempt > 1;
+            for (String handle : candidates) {
+                WindowInfo cached = windows.get(handle);
+                if (cached != null && !readAll && !cached.matches(type, matchingParameter)) continue;
+                WindowInfo window = switchingAndReading(driver, handle);
+                if (window != null && window.matches(type, matchingParameter)) {
+                    LOGGER_INFO.log("Window found: TRUE. Switched to window with title: " + window.title());
+                    return;
+                }
+            }
+            if (System.nanoTime() >= deadline) break;
+            LOGGER_INFO.log("Attempt No." + attempt + " to locate window with handle of type: " + type);
+            polling = pausing(polling);
+        }
+        throw new RuntimeException("Unable to find window with type: " + type +
+                " and value: " + matchingParameter);
+    }
+
+    /**
+     * Closes the window matching the classification type and parameter, switching to it first unless it is the
+     * current window.
+     *
+     * @param driver            The driver of the scenario.
+     * @param type              The classification type for identifying the window handle (TITLE_MATCH or URL_SUBSTRING).
+     * @param matchingParameter The parameter used to match the window handle.
+     */
+    public void closing(WebDriver driver, Perform.WindowHandleClassificationType type, String matchingParameter) {
+        boolean rightWindowFocused = false;
+        if (type.equals(Perform.WindowHandleClassificationType.TITLE_MATCH)) {
+            rightWindowFocused = driver.getTitle().equals(matchingParameter);
+        } else if (type.equals(Perform.WindowHandleClassificationType.URL_SUBSTRING)) {
+            rightWindowFocused = driver.getCurrentUrl().contains(matchingParameter);
+        }
+        if (!rightWindowFocused) {
+            switchingTo(driver, type, matchingParameter);
+        }
+        String handle = driver.getWindowHandle();
+        driver.close();
+        knownHandles.remove(handle);
+        windows.remove(handle);
+    }
+
+    private WindowInfo switchingAndReading(WebDriver driver, String handle) {
+        try {
+            driver.switchTo().window(handle);
+            WindowInfo window = new WindowInfo(driver.getTitle(), driver.getCurrentUrl());
+            windows.put(handle, window);
+            return window;
+        } catch (NoSuchWindowException e) {
+            knownHandles.remove(handle);
+            windows.remove(handle);
+            return null;
+        }
+    }
+
+    private void recordingHandles(Set<String> handles) {
+        knownHandles.retainAll(handles);
+        knownHandles.addAll(handles);
+        windows.keySet().retainAll(handles);
+    }
+
+    private long pausing(long polling) {
+        try {
+            Thread.sleep(polling);
+        } catch (InterruptedException e) {
+            throw new RuntimeException(e);
+        }
+        return Math.min(polling * 2, MAX_POLLING_MILLIS);
+    }
+
+    /**
+     * Title and URL of a window, as last read from it.
+     *
+     * @param title The title of the window.
+     * @param url   The URL of the window.
+     */
+    record WindowInfo(String title, String url) {
+
+        boolean matches(Perform.WindowHandleClassificationType type, String matchingParameter) {
+            return switch (type) {
+                case TITLE_MATCH -> title.contains(matchingParameter);
+                case URL_SUBSTRING -> url.contains(matchingParameter);
+            };
+        }
+    }
+}
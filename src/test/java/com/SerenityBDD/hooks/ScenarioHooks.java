@@ -0,0 +1,34 @@
+package com.SerenityBDD.hooks;
+
+import com.SerenityBDD.support.ElementCache;
+import com.SerenityBDD.support.ScenarioContext;
+import io.cucumber.java.After;
+import io.cucumber.java.AfterStep;
+import io.cucumber.java.Scenario;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+public class ScenarioHooks {
+    public final LoggingEventBuilder LOGGER_INFO = LoggerFactory.getLogger(ScenarioHooks.class).atInfo();
+
+    /**
+     * Requests the DOM generation to be checked before the next step reuses a cached element.
+     */
+    @AfterStep
+    public void revalidateElementCache() {
+        ScenarioContext.current().elementCache().revalidate();
+    }
+
+    /**
+     * Logs how many element lookups the element cache saved in the scenario.
+     *
+     * @param scenario The finished scenario.
+     */
+    @After
+    public void logElementCacheStatistics(Scenario scenario) {
+        ElementCache elementCache = ScenarioContext.current().elementCache();
+        LOGGER_INFO.log("Element cache for scenario: " + scenario.getName() + ". Hits: " + elementCache.hits()
+                + ", Misses: " + elementCache.misses() + ", Stale retries: " + elementCache.staleRetries()
+                + ", Invalidations: " + elementCache.invalidations());
+    }
+}
@@ -0,0 +1,49 @@
+package com.SerenityBDD.hooks;
+
+import com.SerenityBDD.state.AdaptiveWait;
+import com.SerenityBDD.support.PageObjectRegistry;
+import com.SerenityBDD.support.TokenRegistry;
+import io.cucumber.java.AfterAll;
+import io.cucumber.java.BeforeAll;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+public class SuiteHooks {
+    public static final LoggingEventBuilder LOGGER_INFO = LoggerFactory.getLogger(SuiteHooks.class).atInfo();
+
+    /**
+     * Builds the page object index once before the first scenario runs, so that no step pays for the classpath scan.
+     */
+    @BeforeAll
+    public static void indexPageObjects() {
+        LOGGER_INFO.log("Indexed " + PageObjectRegistry.getInstance().size() + " page object classes.");
+    }
+
+    /**
+     * Loads the data token providers once before the first scenario runs, so a misconfigured provider fails the run
+     * up front.
+     */
+    @BeforeAll
+    public static void loadTokenProviders() {
+        LOGGER_INFO.log("Registered " + TokenRegistry.getInstance().size() + " data tokens.");
+    }
+
+    /**
+     * Persists the wait latencies learned during the run, so the next run starts from them.
+     */
+    @AfterAll
+    public static void saveWaitLatencies() {
+        AdaptiveWait.saving();
+    }
+
+    /**
+     * Logs how often and how long every data token provider was evaluated during the run.
+     */
+    @AfterAll
+    public static void logTokenTimings() {
+        for (TokenRegistry.Timing timing : TokenRegistry.getInstance().timings()) {
+            LOGGER_INFO.log("Token provider: " + timing.provider() + ". Evaluations: " + timing.evaluations()
+                    + ", Total: " + timing.nanos() / 1_000_000 + " ms, Cache hits: " + timing.cacheHits());
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.SerenityBDD.navigation;
+
+import com.SerenityBDD.support.ScenarioContext;
+
+import java.lang.invoke.*;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Dispatch table of the navigation methods declared on {@link NavigateTo}, built once per run. Each public no-arg
+ * method is bound to a {@link LambdaMetafactory} generated {@link Consumer}, so navigating is a map lookup followed
+ * by a direct call instead of a reflective invocation.
+ */
+public final class NavigationRegistry {
+
+    private static final Map<String, Consumer<NavigateTo>> NAVIGATIONS = indexNavigations();
+
+    private NavigationRegistry() {
+    }
+
+    /**
+     * Navigates by calling the named method of {@link NavigateTo}.
+     *
+     * @param methodName The navigation method, e.g. "theHomePage".
+     * @param navigateTo The NavigateTo instance of the running scenario.
+     * @throws RuntimeException If NavigateTo has no such navigation method.
+     */
+    public static void navigate(String methodName, NavigateTo navigateTo) {
+        Consumer<NavigateTo> navigation = NAVIGATIONS.get(methodName);
+        if (navigation == null) {
+            throw new RuntimeException("Unable to find " + methodName + " method in the class: "
+                    + NavigateTo.class.getName() + ". Perhaps navigation to the page is not created.");
+        }
+        navigation.accept(navigateTo);
+        ScenarioContext.current().elementCache().invalidate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Consumer<NavigateTo>> indexNavigations() {
+        Map<String, Consumer<NavigateTo>> navigations = new HashMap<>();
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        for (Method method : NavigateTo.class.getDeclaredMethods()) {
+            int modifiers = method.getModifiers();
+            if (!Modifier.isPublic(modifiers) || Modifier.isStatic(modifiers) || method.isSynthetic()
+                    || method.getParameterCount() != 0) continue;
+            try {
+                MethodHandle handle = lookup.unreflect(method);
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "accept",
+                        MethodType.methodType(Consumer.class), MethodType.methodType(void.class, Object.class),
+                        handle, MethodType.methodType(void.class, NavigateTo.class));
+                navigations.put(method.getName(), (Consumer<NavigateTo>) callSite.getTarget().invokeExact());
+            } catch (Throwable e) {
+                throw new RuntimeException("Unable to bind navigation method: " + method.getName(), e);
+            }
+        }
+        return Collections.unmodifiableMap(navigations);
+    }
+}
@@ -0,0 +1,177 @@
+package com.SerenityBDD.state;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Learns how long each page object element takes to reach a waited-for state and tunes the waits for it. Latencies
+ * are kept per page class, field and condition in a rolling window, persisted between runs in the file named by the
+ * "adaptive.wait.file" system property, ".adaptive-waits.json" by default, so a clean build keeps them. They are used
+ * to poll fast elements tightly and back off on slow ones. Waits well above the usual latency are logged as
+ * performance regressions of the application under test; setting "adaptive.wait.fail.early" to true also fails a
+ * wait early once an element is far beyond its usual latency, instead of waiting for the configured timeout.
+ */
+public final class AdaptiveWait {
+    public static final LoggingEventBuilder LOGGER_INFO = LoggerFactory.getLogger(AdaptiveWait.class).atInfo();
+
+    static final String FILE_PROPERTY = "adaptive.wait.file";
+    static final String FAIL_EARLY_PROPERTY = "adaptive.wait.fail.early";
+    static final File LATENCY_FILE = new File(System.getProperty(FILE_PROPERTY, ".adaptive-waits.json"));
+    static final int WINDOW_SIZE = 200;
+    static final int MIN_SAMPLES = 20;
+    static final Duration DEFAULT_POLLING = Duration.ofMillis(100);
+    static final Duration MIN_POLLING = Duration.ofMillis(25);
+    static final Duration MAX_POLLING = Duration.ofMillis(500);
+    static final Duration MIN_BUDGET = Duration.ofSeconds(3);
+    static final int BUDGET_FACTOR = 4;
+    static final int OUTLIER_FACTOR = 2;
+
+    private static final Map<String, LatencyWindow> LATENCIES = load();
+
+    private AdaptiveWait() {
+    }
+
+    /**
+     * Builds the key latencies of an element are kept under.
+     *
+     * @param field     The field of the element.
+     * @param pageClass The page class containing the field.
+     * @param condition The condition waited for, e.g. "visible" or "clickable".
+     * @return String The latency key.
+     */
+    public static String keyOf(Field field, Class<?> pageClass, String condition) {
+        return pageClass.getName() + "#" + field.getName() + ":" + condition;
+    }
+
+    /**
+     * Picks the polling interval for a wait, a quarter of the median latency within fixed bounds.
+     *
+     * @param key The latency key.
+     * @return Duration The polling interval.
+     */
+    public static Duration pollingFor(String key) {
+        LatencyWindow window = LATENCIES.get(key);
+        if (window == null || window.size() < MIN_SAMPLES) return DEFAULT_POLLING;
+        long polling = window.percentile(50) / 4;
+        return Duration.ofMillis(Math.max(MIN_POLLING.toMillis(), Math.min(MAX_POLLING.toMillis(), polling)));
+    }
+
+    /**
+     * Picks the time budget of a wait. With failing early enabled, it is a multiple of the 99th percentile latency
+     * once enough samples are known, never more than the configured timeout; otherwise it is the configured timeout.
+     *
+     * @param key     The latency key.
+     * @param timeout The configured timeout.
+     * @return Duration The time budget.
+     */
+    public static Duration budgetFor(String key, Duration timeout) {
+        if (!Boolean.getBoolean(FAIL_EARLY_PROPERTY)) return timeout;
+        LatencyWindow window = LATENCIES.get(key);
+        if (window == null || window.size() < MIN_SAMPLES) return timeout;
+        Duration budget = Duration.ofMillis(Math.max(MIN_BUDGET.toMillis(), window.percentile(99) * BUDGET_FACTOR));
+        return budget.compareTo(timeout) < 0 ? budget : timeout;
+    }
+
+    /**
+     * Records how long an element took to reach the waited-for state, reporting it if it is an outlier.
+     *
+     * @param key     The latency key.
+     * @param latency The time the wait took.
+     */
+    public static void recording(String key, Duration latency) {
+        LatencyWindow window = LATENCIES.computeIfAbsent(key, k -> new LatencyWindow());
+        long millis = latency.toMillis();
+        if (window.size() >= MIN_SAMPLES) {
+            long p50 = window.percentile(50);
+            long p99 = window.percentile(99);
+            if (millis > Math.max(p99 * OUTLIER_FACTOR, MIN_POLLING.toMillis())) {
+                LOGGER_INFO.log("Performance regression: " + key + " took " + millis + " ms (p50: " + p50
+                        + " ms, p99: " + p99 + " ms).");
+            }
+        }
+        window.add(millis);
+    }
+
+    /**
+     * Reports a wait that ran out of its budget.
+     *
+     * @param key    The latency key.
+     * @param budget The budget the wait was given.
+     */
+    public static void timingOut(String key, Duration budget) {
+        LOGGER_INFO.log("Performance regression: " + key + " not ready within " + budget.toMillis() + " ms.");
+    }
+
+    /**
+     * Persists the latencies for the next run.
+     */
+    public static void saving() {
+        Map<String, long[]> samples = new TreeMap<>();
+        LATENCIES.forEach((key, window) -> samples.put(key, window.samples()));
+        try {
+            File directory = LATENCY_FILE.getAbsoluteFile().getParentFile();
+            if (directory != null) directory.mkdirs();
+            new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(LATENCY_FILE, samples);
+        } catch (IOException e) {
+            LOGGER_INFO.log("Unable to save wait latencies to: " + LATENCY_FILE + ". " + e.getMessage());
+        }
+    }
+
+    private static Map<String, LatencyWindow> load() {
+        Map<String, LatencyWindow> latencies = new ConcurrentHashMap<>();
+        if (!LATENCY_FILE.isFile()) return latencies;
+        try {
+            Map<String, long[]> samples = new ObjectMapper().readValue(LATENCY_FILE, new TypeReference<>() {
+            });
+            samples.forEach((key, values) -> {
+                LatencyWindow window = new LatencyWindow();
+                for (long value : values) window.add(value);
+                latencies.put(key, window);
+            });
+        } catch (IOException e) {
+            LOGGER_INFO.log("Ignoring unreadable wait latencies in: " + LATENCY_FILE + ". " + e.getMessage());
+        }
+        return latencies;
+    }
+
+    /**
+     * The last {@link #WINDOW_SIZE} latencies of an element, in milliseconds.
+     */
+    static final class LatencyWindow {
+        private final long[] samples = new long[WINDOW_SIZE];
+        private int next;
+        private int size;
+
+        synchronized void add(long millis) {
+            samples[next] = millis;
+            next = (next + 1) % WINDOW_SIZE;
+            size = Math.min(size + 1, WINDOW_SIZE);
+        }
+
+        synchronized int size() {
+            return size;
+        }
+
+        synchronized long percentile(int percentile) {
+            long[] sorted = Arrays.copyOf(samples, size);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+            return sorted[Math.max(0, Math.min(size - 1, index))];
+        }
+
+        synchronized long[] samples() {
+            long[] ordered = new long[size];
+            for (int i = 0; i < size; i++) ordered[i] = samples[(next - size + i + WINDOW_SIZE) % WINDOW_SIZE];
+            return ordered;
+        }
+    }
+}
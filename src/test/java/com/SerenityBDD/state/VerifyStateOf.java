@@ -1,5 +1,6 @@
 package com.SerenityBDD.state;
 
+import com.SerenityBDD.support.LocatorCache;
 import net.serenitybdd.core.pages.PageObject;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
@@ -16,8 +17,9 @@ public class VerifyStateOf extends PageObject {
      * @throws IllegalAccessException If there is an issue accessing the field.
      */
     public void theVisibilityOf(Field field, Class<?> pageClass) throws IllegalAccessException {
-        By elementForVisibility = (By) field.get(pageClass);
-        theVisibilityOf(elementForVisibility);
+        By elementForVisibility = LocatorCache.locatorOf(field, pageClass);
+        WaitMode.explicitlyWaitingFor(this, AdaptiveWait.keyOf(field, pageClass, "visible"),
+                ExpectedConditions.visibilityOfElementLocated(elementForVisibility));
     }
 
     /**
@@ -26,7 +28,7 @@ public class VerifyStateOf extends PageObject {
      * @param byField The locator of the element.
      */
     public void theVisibilityOf(By byField) {
-        waitForCondition().until(ExpectedConditions.visibilityOfElementLocated(byField));
+        WaitMode.explicitlyWaitingFor(this, ExpectedConditions.visibilityOfElementLocated(byField));
     }
 
     /**
@@ -39,15 +41,32 @@ public class VerifyStateOf extends PageObject {
     }
 
     /**
-     * Check if a web element identified by a locator is visible on the page.
+     * Check if a web element identified by a locator is visible on the page, without waiting for it to appear.
      *
      * @param byField The locator of the element.
      * @return True if the element is visible, false otherwise.
      */
     public boolean elementIsVisible(By byField) {
+        return WaitMode.withoutImplicitWait(this, () -> {
+            try {
+                return getDriver().findElement(byField).isDisplayed();
+            } catch (NoSuchElementException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Check if a web element identified by a locator is not visible on the page, waiting for a visible element to
+     * disappear. An element that is absent or hidden is reported right away instead of after the implicit wait.
+     *
+     * @param byField The locator of the element.
+     * @return True if the element is absent or hidden, false if it stays visible.
+     */
+    public boolean elementIsNotVisible(By byField) {
         try {
-            return getDriver().findElement(byField).isDisplayed();
-        } catch (NoSuchElementException e) {
+            return WaitMode.explicitlyWaitingFor(this, ExpectedConditions.invisibilityOfElementLocated(byField));
+        } catch (TimeoutException e) {
             return false;
         }
     }
@@ -60,8 +79,9 @@ public class VerifyStateOf extends PageObject {
      * @throws IllegalAccessException If there is an issue accessing the field.
      */
     public void thePresenceOf(Field field, Class<?> pageClass) throws IllegalAccessException {
-        By elementForAvailability = (By) field.get(pageClass);
-        thePresenceOf(elementForAvailability);
+        By elementForAvailability = LocatorCache.locatorOf(field, pageClass);
+        WaitMode.explicitlyWaitingFor(this, AdaptiveWait.keyOf(field, pageClass, "present"),
+                ExpectedConditions.presenceOfElementLocated(elementForAvailability));
     }
 
     /**
@@ -70,19 +90,36 @@ public class VerifyStateOf extends PageObject {
      * @param byField The locator of the element.
      */
     public void thePresenceOf(By byField) {
-        waitForCondition().until(ExpectedConditions.presenceOfElementLocated(byField));
+        WaitMode.explicitlyWaitingFor(this, ExpectedConditions.presenceOfElementLocated(byField));
     }
 
     /**
-     * Check if a web element identified by a locator is present on the page.
+     * Check if a web element identified by a locator is present on the page, without waiting for it to appear.
      *
      * @param byField The locator of the element.
      * @return True if the element is present, false otherwise.
      */
     public boolean elementIsPresent(By byField) {
+        return WaitMode.withoutImplicitWait(this, () -> {
+            try {
+                return getDriver().findElements(byField).size() > 0;
+            } catch (NoSuchElementException e) {
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Check if no web element identified by a locator is present on the page, waiting for a present element to be
+     * removed. An absent element is reported right away instead of after the implicit wait.
+     *
+     * @param byField The locator of the element.
+     * @return True if no element is present, false if one stays present.
+     */
+    public boolean elementIsNotPresent(By byField) {
         try {
-            return getDriver().findElements(byField).size() > 0;
-        } catch (NoSuchElementException e) {
+            return WaitMode.explicitlyWaitingFor(this, driver -> driver.findElements(byField).isEmpty() ? true : null);
+        } catch (TimeoutException e) {
             return false;
         }
     }
@@ -117,13 +154,9 @@ public class VerifyStateOf extends PageObject {
      * @param pageClass The class of the page where the element is located.
      */
     public void theInvisibilityOf(Field field, Class<?> pageClass) {
-        By elementForInvisibility;
-        try {
-            elementForInvisibility = (By) field.get(pageClass);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException(e);
-        }
-        theInvisibilityOf(elementForInvisibility);
+        By elementForInvisibility = LocatorCache.locatorOf(field, pageClass);
+        WaitMode.explicitlyWaitingFor(this, AdaptiveWait.keyOf(field, pageClass, "invisible"),
+                ExpectedConditions.invisibilityOfElementLocated(elementForInvisibility));
     }
 
     /**
@@ -132,7 +165,7 @@ public class VerifyStateOf extends PageObject {
      * @param byField The locator of the element.
      */
     public void theInvisibilityOf(By byField) {
-        waitForCondition().until(ExpectedConditions.invisibilityOfElementLocated(byField));
+        WaitMode.explicitlyWaitingFor(this, ExpectedConditions.invisibilityOfElementLocated(byField));
     }
 
     /**
@@ -0,0 +1,86 @@
+package com.SerenityBDD.state;
+
+import net.serenitybdd.core.pages.PageObject;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Switches the implicit wait off while explicit waits poll and while absence is checked, and restores it afterwards.
+ * With the implicit wait on, every lookup of a missing element inside a poll blocks for the full implicit timeout,
+ * so absence checks never return early. Suspensions nest, and only the outermost one restores the implicit wait.
+ */
+public final class WaitMode {
+
+    private static final ThreadLocal<Integer> SUSPENSIONS = ThreadLocal.withInitial(() -> 0);
+
+    private WaitMode() {
+    }
+
+    /**
+     * Runs a check with the implicit wait switched off.
+     *
+     * @param page  The page object whose driver is used by the check.
+     * @param check The check to run.
+     * @return T The result of the check.
+     */
+    public static <T> T withoutImplicitWait(PageObject page, Supplier<T> check) {
+        int suspensions = SUSPENSIONS.get();
+        if (suspensions == 0) page.setImplicitTimeout(0, ChronoUnit.MILLIS);
+        SUSPENSIONS.set(suspensions + 1);
+        try {
+            return check.get();
+        } finally {
+            SUSPENSIONS.set(suspensions);
+            if (suspensions == 0) page.resetImplicitTimeout();
+        }
+    }
+
+    /**
+     * Waits for a condition with the implicit wait switched off. The wait lasts as long as the longer of the explicit
+     * and implicit timeouts, so an element that used to be found by the implicit wait is still waited for.
+     *
+     * @param page      The page object whose driver is used by the condition.
+     * @param condition The condition to wait for.
+     * @return T The value the condition returned once met.
+     * @throws org.openqa.selenium.TimeoutException If the condition is not met in time.
+     */
+    public static <T> T explicitlyWaitingFor(PageObject page, Function<? super WebDriver, T> condition) {
+        Duration waitTimeout = waitTimeoutOf(page);
+        return withoutImplicitWait(page, () -> page.waitForCondition().withTimeout(waitTimeout).until(condition));
+    }
+
+    /**
+     * Waits for a condition on a page object element with the implicit wait switched off, polling and budgeting the
+     * wait from the latencies {@link AdaptiveWait} learned for the element, and recording how long it took.
+     *
+     * @param page      The page object whose driver is used by the condition.
+     * @param key       The latency key of the element, see {@link AdaptiveWait#keyOf}.
+     * @param condition The condition to wait for.
+     * @return T The value the condition returned once met.
+     * @throws org.openqa.selenium.TimeoutException If the condition is not met within the budget.
+     */
+    public static <T> T explicitlyWaitingFor(PageObject page, String key, Function<? super WebDriver, T> condition) {
+        Duration budget = AdaptiveWait.budgetFor(key, waitTimeoutOf(page));
+        long start = System.nanoTime();
+        try {
+            T value = withoutImplicitWait(page, () -> page.waitForCondition().withTimeout(budget)
+                    .pollingEvery(AdaptiveWait.pollingFor(key)).until(condition));
+            AdaptiveWait.recording(key, Duration.ofNanos(System.nanoTime() - start));
+            return value;
+        } catch (TimeoutException e) {
+            AdaptiveWait.timingOut(key, budget);
+            throw e;
+        }
+    }
+
+    private static Duration waitTimeoutOf(PageObject page) {
+        Duration timeout = page.getWaitForTimeout();
+        Duration implicitTimeout = page.getImplicitWaitTimeout();
+        return implicitTimeout.compareTo(timeout) > 0 ? implicitTimeout : timeout;
+    }
+}
@@ -23,7 +23,7 @@ public class BrowserHandlingStepDefinitions {
     @Then("I should see the number of open window handles as {int}")
     public void iShouldSeeNumberOfOpenWindowHandles(int windowsCount) {
         Assert.assertEquals("A new window is not either opened or closed!",
-                windowsCount, perform.gettingWindowHandles().size());
+                windowsCount, perform.gettingWindowHandles(windowsCount).size());
     }
 
     @When("I refresh the page")
@@ -2,12 +2,14 @@ package com.SerenityBDD.steps;
 
 import com.SerenityBDD.execute.Perform;
 import com.SerenityBDD.support.DataObjectOperations;
+import com.SerenityBDD.support.FocusedPage;
 import com.SerenityBDD.support.PageObjectOperations;
 import io.cucumber.java.en.When;
-import net.serenitybdd.core.Serenity;
 import net.thucydides.core.annotations.Steps;
+import org.openqa.selenium.By;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
@@ -25,42 +27,46 @@ public class FieldInteractionsStepDefinitions {
     @When("I set the {string} text field/area as {string}")
     public void iSetTextFieldAs(String fieldName, String value) {
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field textElement = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field textElement = currentPage.field(poe);
         perform.settingFieldValue(textElement, pageClass, value);
     }
 
     @When("I set the {string} date field as {string}")
     public void iSetDateFieldAs(String fieldName, String value) {
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field textElement = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field textElement = currentPage.field(poe);
+        perform.settingDateFieldValue(textElement, pageClass, dateValueToFill(value));
+    }
+
+    private String dateValueToFill(String value) {
         // Check if the date input from feature is not in traditional format
         if (value.equals("t") || value.contains("t-") || value.contains("t+") || value.contains("t&dtf")) {
             // Check if the date requires special DateTimeFormatter
             if (value.contains("&dtf=")) value = dataObjectOperations.extractDtfAndTransformDateValue(value);
             else value = dataObjectOperations.transformUIDateValue(value);
         }
-        perform.settingDateFieldValue(textElement, pageClass, value);
+        return value;
     }
 
     @When("I click the {string} button/link/icon/radio/field/tab")
     public void iClickTheElement(String clickableElementName) {
         String poe = pageObjectOperations.poeName(clickableElementName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field clickableElement = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field clickableElement = currentPage.field(poe);
         perform.clickOn(clickableElement, pageClass);
     }
 
     @When("I set the {string} dropdown as {string}")
     public void iSetDropdownAs(String fieldName, String value) {
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field dropdownElement = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field dropdownElement = currentPage.field(poe);
         value = value.contains("$") ? dataObjectOperations.transformDataValue(value) : value;
         perform.settingDropdownValue(dropdownElement, pageClass, value);
     }
@@ -68,20 +74,31 @@ public class FieldInteractionsStepDefinitions {
     @When("I set the {string} checkbox as {string}")
     public void iSetCheckboxAs(String fieldName, String value) {
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field checkboxElement = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field checkboxElement = currentPage.field(poe);
         perform.settingCheckboxAs(checkboxElement, pageClass, value);
     }
 
     @When("I set these fields with following values:")
     public void iSetTheseFieldsWithFollowingValues(List<Map<String, String>> dataTable) {
+        perform.fillingForm(fieldsToFill(dataTable), false);
+    }
+
+    @When("I set these fields with following values through scripts:")
+    public void iSetTheseFieldsWithFollowingValuesThroughScripts(List<Map<String, String>> dataTable) {
+        perform.fillingForm(fieldsToFill(dataTable), true);
+    }
+
+    private List<Perform.FieldToFill> fieldsToFill(List<Map<String, String>> dataTable) {
         if (!dataTable.get(0).keySet().containsAll(Arrays.asList("field", "fieldType", "value")))
             throw new RuntimeException("The data table with this step is incorrect. Please make sure that the table" +
                     " the right headers: [field, fieldType, value]");
         if (dataTable.get(0).keySet().size() != 3)
             throw new RuntimeException("The data table with this step is incorrect. Please make sure that the table" +
                     " the right headers: [field, fieldType, value]");
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        List<Perform.FieldToFill> fieldsToFill = new ArrayList<>();
         for (Map<String, String> tableRow : dataTable) {
             String valueToFill = "";
             if (tableRow.get("value").contains("`$`")) {
@@ -90,13 +107,21 @@ public class FieldInteractionsStepDefinitions {
                 valueToFill = tableRow.get("value").contains("$") ? dataObjectOperations
                         .transformDataValue(tableRow.get("value")) : tableRow.get("value");
             }
-            switch (tableRow.get("fieldType").toLowerCase()) {
-                case "text field", "textarea" -> iSetTextFieldAs(tableRow.get("field"), valueToFill);
-                case "date field" -> iSetDateFieldAs(tableRow.get("field"), valueToFill);
-                case "dropdown" -> iSetDropdownAs(tableRow.get("field"), valueToFill);
-                case "checkbox" -> iSetCheckboxAs(tableRow.get("field"), valueToFill);
+            Perform.FieldType fieldType = switch (tableRow.get("fieldType").toLowerCase()) {
+                case "text field" -> Perform.FieldType.TEXT_FIELD;
+                case "textarea" -> Perform.FieldType.TEXTAREA;
+                case "date field" -> Perform.FieldType.DATE_FIELD;
+                case "dropdown" -> Perform.FieldType.DROPDOWN;
+                case "checkbox" -> Perform.FieldType.CHECKBOX;
                 default -> throw new IllegalArgumentException("Unknown field type: " + tableRow.get("fieldType"));
+            };
+            if (fieldType == Perform.FieldType.DATE_FIELD) valueToFill = dateValueToFill(valueToFill);
+            if (fieldType == Perform.FieldType.DROPDOWN && valueToFill.contains("$")) {
+                valueToFill = dataObjectOperations.transformDataValue(valueToFill);
             }
+            By byField = currentPage.locator(pageObjectOperations.poeName(tableRow.get("field")));
+            fieldsToFill.add(new Perform.FieldToFill(byField, fieldType, valueToFill));
         }
+        return fieldsToFill;
     }
 }
@@ -1,14 +1,18 @@
 package com.SerenityBDD.steps;
 
 import com.SerenityBDD.execute.Perform;
+import com.SerenityBDD.state.VerifyStateOf;
 import com.SerenityBDD.support.DataObjectOperations;
+import com.SerenityBDD.support.FocusedPage;
 import com.SerenityBDD.support.PageObjectOperations;
 import io.cucumber.java.en.Then;
-import net.serenitybdd.core.Serenity;
 import net.thucydides.core.annotations.Steps;
 import org.junit.Assert;
+import org.openqa.selenium.By;
 
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,16 +26,35 @@ public class FieldStateVerificationStepDefinitions {
     @Steps
     DataObjectOperations dataObjectOperations;
 
+    @Steps
+    VerifyStateOf verifyStateOf;
+
     @Then("I should see the {string} field/button/link/label is {string}")
     public void iShouldSeeTheFieldIs(String fieldName, String fieldState) {
+        if (fieldState.equalsIgnoreCase("not visible")) {
+            iShouldNotSeeTheField(fieldName);
+            return;
+        }
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field field = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field field = currentPage.field(poe);
         Assert.assertTrue(fieldName + " is not " + fieldState, perform.gettingFieldState(field, pageClass)
                 .get(fieldState.toLowerCase()));
     }
 
+    @Then("I should not see the {string} field/button/link/label")
+    public void iShouldNotSeeTheField(String fieldName) {
+        By field = pageObjectOperations.currentPage().locator(pageObjectOperations.poeName(fieldName));
+        Assert.assertTrue(fieldName + " is visible", verifyStateOf.elementIsNotVisible(field));
+    }
+
+    @Then("I should see the {string} field/button/link/label is not present")
+    public void iShouldSeeTheFieldIsNotPresent(String fieldName) {
+        By field = pageObjectOperations.currentPage().locator(pageObjectOperations.poeName(fieldName));
+        Assert.assertTrue(fieldName + " is present", verifyStateOf.elementIsNotPresent(field));
+    }
+
     @Then("I should see the following fields/buttons/links/labels/tabs are {string}:")
     public void iShouldSeeTheFollowingFieldsAre(String fieldState, List<Map<String, String>> dataTable) {
         if (!dataTable.get(0).containsKey("field"))
@@ -40,17 +63,28 @@ public class FieldStateVerificationStepDefinitions {
         if (dataTable.get(0).keySet().size() != 1)
             throw new RuntimeException("The data table with this step is incorrect. Please make sure that the table" +
                     " the right headers: [field]");
+        if (fieldState.equalsIgnoreCase("not visible")) {
+            for (Map<String, String> data : dataTable) iShouldNotSeeTheField(data.get("field"));
+            return;
+        }
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        List<By> fields = new ArrayList<>();
         for (Map<String, String> data : dataTable) {
-            iShouldSeeTheFieldIs(data.get("field"), fieldState);
+            fields.add(currentPage.locator(pageObjectOperations.poeName(data.get("field"))));
+        }
+        Map<By, HashMap<String, Boolean>> fieldStates = perform.gettingFieldStates(fields);
+        for (int i = 0; i < dataTable.size(); i++) {
+            Assert.assertTrue(dataTable.get(i).get("field") + " is not " + fieldState, fieldStates.get(fields.get(i))
+                    .get(fieldState.toLowerCase()));
         }
     }
 
     @Then("I should see the count of {string} button(s)/label(s)/section(s) as {string}")
     public void iShouldSeeTheCountOfFieldAs(String fieldName, String expectedCount) {
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field field = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field field = currentPage.field(poe);
         expectedCount = expectedCount.contains("$") ? dataObjectOperations.transformDataValue(expectedCount) : expectedCount;
         Assert.assertEquals(Integer.parseInt(expectedCount), perform.getWebElements(field, pageClass).size());
     }
@@ -2,16 +2,19 @@ package com.SerenityBDD.steps;
 
 import com.SerenityBDD.execute.Perform;
 import com.SerenityBDD.support.DataObjectOperations;
+import com.SerenityBDD.support.FocusedPage;
+import com.SerenityBDD.support.HtmlCapture;
+import com.SerenityBDD.support.Locator;
 import com.SerenityBDD.support.PageObjectOperations;
 import io.cucumber.java.en.Then;
-import net.serenitybdd.core.Serenity;
 import net.thucydides.core.annotations.Steps;
+import org.jsoup.nodes.Element;
 import org.junit.Assert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Field;
-import java.util.Arrays;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 public class FieldValueVerificationStepDefinitions {
     @Steps
@@ -26,14 +29,12 @@ public class FieldValueVerificationStepDefinitions {
     @Then("I should see the {string} {string} value as {string}")
     public void iShouldSeeTheFieldValueAs(String fieldName, String fieldType, String value) {
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field valueElement = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field valueElement = currentPage.field(poe);
         Perform.FieldType fieldTypeEnum = Perform.FieldType.resoluteFieldType(fieldType);
         String fieldValue = perform.gettingFieldValue(valueElement, pageClass, fieldTypeEnum).strip();
-        value = value.contains("$") ? dataObjectOperations.transformDataValue(value) : value;
-        value = fieldType.contains("date") ? dataObjectOperations.transformDateValue(value,
-                DataObjectOperations.DateTimeFormatters.getDtf("ui_dtf")) : value;
+        value = expectedValue(fieldType, value);
         String msg = "Incorrect value obtained for field: " + fieldName + ". Expected: " + value + ", Got: " +
                 fieldValue;
         Assert.assertEquals(msg, value, fieldValue);
@@ -42,14 +43,12 @@ public class FieldValueVerificationStepDefinitions {
     @Then("I should see the {string} {string} value contains {string}")
     public void iShouldSeeTheFieldValuesContains(String fieldName, String fieldType, String value) {
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field valueElement = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field valueElement = currentPage.field(poe);
         Perform.FieldType fieldTypeEnum = Perform.FieldType.resoluteFieldType(fieldType);
         String fieldValue = perform.gettingFieldValue(valueElement, pageClass, fieldTypeEnum).strip();
-        value = value.contains("$") ? dataObjectOperations.transformDataValue(value) : value;
-        value = fieldType.contains("date") ? dataObjectOperations.transformDateValue(value,
-                DataObjectOperations.DateTimeFormatters.getDtf("ui_dtf")) : value;
+        value = expectedValue(fieldType, value);
         String msg = "Incorrect value obtained for field: " + fieldName + ". Expected: " + value + ", Got: " +
                 fieldValue;
         Assert.assertTrue(msg, fieldValue.contains(value));
@@ -63,9 +62,7 @@ public class FieldValueVerificationStepDefinitions {
         if (dataTable.get(0).keySet().size() != 3)
             throw new RuntimeException("The data table with this step is incorrect. Please make sure that the table" +
                     " the right headers: [field, fieldType, value]");
-        for (Map<String, String> data : dataTable) {
-            iShouldSeeTheFieldValueAs(data.get("field"), data.get("fieldType"), data.get("value"));
-        }
+        verifyingFieldValues(dataTable, false);
     }
 
     @Then("I should see the following field values contains:")
@@ -76,9 +73,79 @@ public class FieldValueVerificationStepDefinitions {
         if (dataTable.get(0).keySet().size() != 3)
             throw new RuntimeException("The data table with this step is incorrect. Please make sure that the table" +
                     " the right headers: [field, fieldType, value]");
+        verifyingFieldValues(dataTable, true);
+    }
+
+    @Then("I should see the following field texts as:")
+    public void iShouldSeeTheFollowingFieldTextsAs(List<Map<String, String>> dataTable) {
+        if (!dataTable.get(0).keySet().equals(Set.of("field", "value")))
+            throw new RuntimeException("The data table with this step is incorrect. Please make sure that the table" +
+                    " the right headers: [field, value]");
+        verifyingCapturedFields(dataTable, false);
+    }
+
+    @Then("I should see the following field attributes as:")
+    public void iShouldSeeTheFollowingFieldAttributesAs(List<Map<String, String>> dataTable) {
+        if (!dataTable.get(0).keySet().equals(Set.of("field", "attribute", "value")))
+            throw new RuntimeException("The data table with this step is incorrect. Please make sure that the table" +
+                    " the right headers: [field, attribute, value]");
+        verifyingCapturedFields(dataTable, true);
+    }
+
+    private void verifyingCapturedFields(List<Map<String, String>> dataTable, boolean attributes) {
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        HtmlCapture capture = pageObjectOperations.capturingHtml(currentPage.containerLocator());
+        List<String> mismatches = new ArrayList<>();
         for (Map<String, String> data : dataTable) {
-            iShouldSeeTheFieldValuesContains(data.get("field"), data.get("fieldType"), data.get("value"));
+            By byField = currentPage.locator(pageObjectOperations.poeName(data.get("field")));
+            String attribute = attributes ? data.get("attribute") : null;
+            String fieldValue = capturedValue(capture, byField, attribute);
+            fieldValue = fieldValue == null ? null : fieldValue.strip();
+            String value = data.get("value") == null ? null : expectedValue("label", data.get("value"));
+            if (!Objects.equals(value, fieldValue)) {
+                String obtained = attributes ? attribute + " attribute" : "value";
+                mismatches.add("Incorrect " + obtained + " obtained for field: " + data.get("field")
+                        + ". Expected: " + value + ", Got: " + fieldValue);
+            }
+        }
+        if (!mismatches.isEmpty()) Assert.fail(String.join("\n", mismatches));
+    }
+
+    private String capturedValue(HtmlCapture capture, By byField, String attribute) {
+        Optional<Element> element = Locator.of(byField).flatMap(capture::findOnly);
+        if (element.isPresent()) {
+            if (attribute == null) return HtmlCapture.labelOf(element.get());
+            return element.get().hasAttr(attribute) ? element.get().attr(attribute) : null;
         }
+        WebElement webElement = perform.getWebElement(byField);
+        return attribute == null ? HtmlCapture.labelOf(webElement) : webElement.getDomAttribute(attribute);
+    }
+
+    private void verifyingFieldValues(List<Map<String, String>> dataTable, boolean contains) {
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        List<Perform.FieldToRead> fieldsToRead = new ArrayList<>();
+        for (Map<String, String> data : dataTable) {
+            fieldsToRead.add(new Perform.FieldToRead(currentPage.locator(pageObjectOperations.poeName(data.get("field"))),
+                    Perform.FieldType.resoluteFieldType(data.get("fieldType"))));
+        }
+        List<String> fieldValues = perform.gettingFieldValues(fieldsToRead);
+        List<String> mismatches = new ArrayList<>();
+        for (int i = 0; i < dataTable.size(); i++) {
+            Map<String, String> data = dataTable.get(i);
+            String value = expectedValue(data.get("fieldType"), data.get("value"));
+            String fieldValue = fieldValues.get(i).strip();
+            if (contains ? !fieldValue.contains(value) : !fieldValue.equals(value)) {
+                mismatches.add("Incorrect value obtained for field: " + data.get("field") + ". Expected: " + value
+                        + ", Got: " + fieldValue);
+            }
+        }
+        if (!mismatches.isEmpty()) Assert.fail(String.join("\n", mismatches));
+    }
+
+    private String expectedValue(String fieldType, String value) {
+        value = value.contains("$") ? dataObjectOperations.transformDataValue(value) : value;
+        return fieldType.contains("date") ? dataObjectOperations.transformDateValue(value,
+                DataObjectOperations.DateTimeFormatters.getDtf("ui_dtf")) : value;
     }
 
     @Then("I should see the {string} {string} value contains the following:")
@@ -90,9 +157,9 @@ public class FieldValueVerificationStepDefinitions {
             throw new RuntimeException("The data table with this step is incorrect. Please make sure that the table" +
                     " the right headers: [values]");
         String poe = pageObjectOperations.poeName(fieldName);
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field valueElement = pageObjectOperations.poeFieldClass(poe, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> pageClass = currentPage.pageClass();
+        Field valueElement = currentPage.field(poe);
         Perform.FieldType fieldTypeEnum = Perform.FieldType.resoluteFieldType(fieldType);
         String fieldValue = perform.gettingFieldValue(valueElement, pageClass, fieldTypeEnum);
         for (Map<String, String> data : dataTable) {
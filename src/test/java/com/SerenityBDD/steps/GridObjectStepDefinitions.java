@@ -2,18 +2,19 @@ package com.SerenityBDD.steps;
 
 import com.SerenityBDD.execute.Perform;
 import com.SerenityBDD.support.DataObjectOperations;
+import com.SerenityBDD.support.FocusedPage;
+import com.SerenityBDD.support.GridComparison;
 import com.SerenityBDD.support.GridObjectOperations;
 import com.SerenityBDD.support.PageObjectOperations;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
-import net.serenitybdd.core.Serenity;
 import net.thucydides.core.annotations.Steps;
 import org.junit.Assert;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 
 import java.lang.reflect.Field;
-import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,86 +33,127 @@ public class GridObjectStepDefinitions {
 
     @Then("I should see the following values in the grid:")
     public void iShouldSeeTheFollowingValuesInTheGrid(List<Map<String, String>> dataTable) {
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> pageClass = pageObjectOperations.getPageClass(currentPage);
-        Field tableElement = pageObjectOperations.poeFieldClass("GRID_LOADED", currentPage);
-        By table = perform.fieldToInteract(tableElement, pageClass);
-        dataTable = dataObjectOperations.transformDataTable(dataTable);
-        for (Map<String, String> tableRow : dataTable) {
-            Assert.assertEquals(tableRow, gridObjectOperations.getValueForRowColumn(tableRow, table));
+        verifyingGrid(dataTable, GridComparison.onRowNumber(true));
+    }
+
+    @Then("I should see only the following values in the grid:")
+    public void iShouldSeeOnlyTheFollowingValuesInTheGrid(List<Map<String, String>> dataTable) {
+        verifyingGrid(dataTable, GridComparison.onRowNumber(false));
+    }
+
+    @Then("I should see the following values in the grid in any order:")
+    public void iShouldSeeTheFollowingValuesInTheGridInAnyOrder(List<Map<String, String>> dataTable) {
+        // Without expected rows, every grid row is reported as extra.
+        if (dataTable.isEmpty()) {
+            verifyingGrid(dataTable, GridComparison.onRowNumber(false));
+            return;
         }
+        List<String> columns = dataTable.get(0).keySet().stream().filter(column -> !column.equals("row")).toList();
+        verifyingGrid(dataTable, GridComparison.onColumns(columns, false, false));
+    }
+
+    @Then("I should see the following values in the grid in any order matched on {string} column:")
+    public void iShouldSeeTheFollowingValuesInTheGridInAnyOrderMatchedOnColumn(String keyColumn,
+                                                                                List<Map<String, String>> dataTable) {
+        verifyingGrid(dataTable, GridComparison.onColumns(List.of(keyColumn), false, false));
+    }
+
+    @Then("I should see the following values in the grid matched on {string} column:")
+    public void iShouldSeeTheFollowingValuesInTheGridMatchedOnColumn(String keyColumn,
+                                                                      List<Map<String, String>> dataTable) {
+        verifyingGrid(dataTable, GridComparison.onColumns(List.of(keyColumn), true, true));
     }
 
     @When("I click the {string} link/button/icon/field on row {int} of the grid")
     public void iClickTheButtonOnRowOfTheGrid(String fieldName, int rowNumber) {
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> gridClass = pageObjectOperations.getPageClass(currentPage);
-        Field clickableElement = pageObjectOperations.poeFieldClass(fieldName, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> gridClass = currentPage.pageClass();
+        Field clickableElement = currentPage.field(fieldName);
         WebElement rowToFocus = gridObjectOperations.getRowFocusedWebElement(rowNumber, currentPage);
         perform.clickOn(rowToFocus.findElement(perform.fieldToInteract(clickableElement, gridClass)));
     }
 
     @When("I set the {string} checkbox as {string} on row {int} of the grid")
     public void iSetTheCheckboxAsOnRowOfTheGrid(String fieldName, String value, int rowNumber) {
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> gridClass = pageObjectOperations.getPageClass(currentPage);
-        Field checkboxElement = pageObjectOperations.poeFieldClass(fieldName, currentPage);
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> gridClass = currentPage.pageClass();
+        Field checkboxElement = currentPage.field(fieldName);
 
         WebElement rowToFocus = gridObjectOperations.getRowFocusedWebElement(rowNumber, currentPage);
         perform.settingCheckboxAs(rowToFocus.findElement(perform.fieldToInteract(checkboxElement, gridClass)), value);
     }
 
     @When("I set the {string} checkbox as {string} on row with {string} column as {string} in the grid")
-    public void iSetTheCheckboxAsOnRowWithColumnAsInTheGrid(String fieldName, String value, String expectedField, String expectedValue) throws NoSuchFieldException {
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> gridClass = pageObjectOperations.getPageClass(currentPage);
-        By table = perform.fieldToInteract(gridClass.getDeclaredField("GRID_LOADED"), gridClass);
-        Field checkboxElement = pageObjectOperations.poeFieldClass(fieldName, currentPage);
-        expectedValue = expectedField.toLowerCase().contains("date") ? dataObjectOperations.transformDateValue(
-                expectedValue, DataObjectOperations.DateTimeFormatters.getDtf("ui_dtf")) : expectedValue;
-        expectedValue = expectedValue.contains("$") ? dataObjectOperations
-                .transformDataValue(expectedValue) : expectedValue;
-        List<String> rowsData = gridObjectOperations.getRowsDataForColumns(Collections.singletonList(expectedField),
-                table).get(expectedField);
-        int rowIndex = rowsData.indexOf(expectedValue) + 1;
-        if (rowIndex == 0) throw new RuntimeException("Unable to find row in the grid table.");
-        WebElement rowToFocus = gridObjectOperations.getRowFocusedWebElement(rowIndex, currentPage);
+    public void iSetTheCheckboxAsOnRowWithColumnAsInTheGrid(String fieldName, String value, String expectedField, String expectedValue) {
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> gridClass = currentPage.pageClass();
+        Field checkboxElement = currentPage.field(fieldName);
+        WebElement rowToFocus = gridObjectOperations.getRowWebElement(
+                Map.of(expectedField, expectedCellValue(expectedField, expectedValue)), currentPage);
+        perform.settingCheckboxAs(rowToFocus.findElement(perform.fieldToInteract(checkboxElement, gridClass)),value);
+    }
+
+    @When("I set the {string} checkbox as {string} on row with following column values in the grid:")
+    public void iSetTheCheckboxAsOnRowWithFollowingColumnValuesInTheGrid(String fieldName, String value,
+                                                                         Map<String, String> columnValues) {
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> gridClass = currentPage.pageClass();
+        Field checkboxElement = currentPage.field(fieldName);
+        WebElement rowToFocus = gridObjectOperations.getRowWebElement(expectedCellValues(columnValues), currentPage);
         perform.settingCheckboxAs(rowToFocus.findElement(perform.fieldToInteract(checkboxElement, gridClass)),value);
     }
 
     @When("I click the {string} link/button/icon/field on row with {string} column as {string} in the grid")
-    public void iClickTheLinkOnRowWithColumnAsInTheGrid(String fieldName, String expectedField, String expectedValue) throws NoSuchFieldException {
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> gridClass = pageObjectOperations.getPageClass(currentPage);
-        By table = perform.fieldToInteract(gridClass.getDeclaredField("GRID_LOADED"), gridClass);
-        Field clickableElement = pageObjectOperations.poeFieldClass(fieldName, currentPage);
-        List<String> rowsData = gridObjectOperations.getRowsDataForColumns(Collections.singletonList(expectedField),
-                table).get(expectedField);
-        int rowIndex = rowsData.indexOf(expectedValue) + 1;
-        if (rowIndex == 0) throw new RuntimeException("Unable to find row in the grid table.");
-        WebElement rowToFocus = gridObjectOperations.getRowFocusedWebElement(rowIndex, currentPage);
+    public void iClickTheLinkOnRowWithColumnAsInTheGrid(String fieldName, String expectedField, String expectedValue) {
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> gridClass = currentPage.pageClass();
+        Field clickableElement = currentPage.field(fieldName);
+        WebElement rowToFocus = gridObjectOperations.getRowWebElement(Map.of(expectedField, expectedValue),
+                currentPage);
+        perform.clickOn(rowToFocus.findElement(perform.fieldToInteract(clickableElement, gridClass)));
+    }
+
+    @When("I click the {string} link/button/icon/field on row with following column values in the grid:")
+    public void iClickTheLinkOnRowWithFollowingColumnValuesInTheGrid(String fieldName,
+                                                                     Map<String, String> columnValues) {
+        FocusedPage currentPage = pageObjectOperations.currentPage();
+        Class<?> gridClass = currentPage.pageClass();
+        Field clickableElement = currentPage.field(fieldName);
+        WebElement rowToFocus = gridObjectOperations.getRowWebElement(expectedCellValues(columnValues), currentPage);
         perform.clickOn(rowToFocus.findElement(perform.fieldToInteract(clickableElement, gridClass)));
     }
 
     @Then("I should see {int} row(s) in the grid")
-    public void iShouldSeeRowsInTheGrid(int rowCount) throws NoSuchFieldException {
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> gridClass = pageObjectOperations.getPageClass(currentPage);
-        Field gridLoadedElement = pageObjectOperations.poeFieldClass("GRID_LOADED", currentPage);
-        By table = perform.fieldToInteract(gridLoadedElement, gridClass);
-        int count = gridObjectOperations.getRowCount(table);
+    public void iShouldSeeRowsInTheGrid(int rowCount) {
+        long count = gridObjectOperations.countingRows(pageObjectOperations.currentPage(), rowCount + 1L);
         Assert.assertEquals("Incorrect number of rows unexpectedly displayed", rowCount, count);
     }
 
     @Then("I should see the grid contains the following headers:")
-    public void iShouldSeeTheGridContainsTheFollowingHeaders(List<Map<String, String>> dataTable) throws NoSuchFieldException {
-        String currentPage = Serenity.sessionVariableCalled("Current Page");
-        Class<?> gridClass = pageObjectOperations.getPageClass(currentPage);
-        Field gridLoadedElement = pageObjectOperations.poeFieldClass("GRID_LOADED", currentPage);
-        By table = perform.fieldToInteract(gridLoadedElement, gridClass);
+    public void iShouldSeeTheGridContainsTheFollowingHeaders(List<Map<String, String>> dataTable) {
+        By table = pageObjectOperations.currentPage().locator("GRID_LOADED");
         List<String> tableHeaders = gridObjectOperations.getTableHeaders(table);
         List<String> expectedHeaders = dataObjectOperations.transformListHashToStringList(dataTable);
         Assert.assertEquals("Unexpected display of table headers in the defined table."
                 , expectedHeaders, tableHeaders);
     }
+
+    private Map<String, String> expectedCellValues(Map<String, String> columnValues) {
+        Map<String, String> expectedValues = new LinkedHashMap<>();
+        columnValues.forEach((column, value) -> expectedValues.put(column, expectedCellValue(column, value)));
+        return expectedValues;
+    }
+
+    private String expectedCellValue(String column, String value) {
+        value = column.toLowerCase().contains("date") ? dataObjectOperations.transformDateValue(
+                value, DataObjectOperations.DateTimeFormatters.getDtf("ui_dtf")) : value;
+        return value.contains("$") ? dataObjectOperations.transformDataValue(value) : value;
+    }
+
+    private void verifyingGrid(List<Map<String, String>> dataTable, GridComparison comparison) {
+        dataTable = dataObjectOperations.transformDataTable(dataTable);
+        GridComparison.Diff diff = gridObjectOperations.comparingGrid(dataTable, pageObjectOperations.currentPage(),
+                comparison);
+        if (!diff.matches()) Assert.fail(diff.report());
+    }
 }
@@ -1,22 +1,17 @@
 package com.SerenityBDD.steps;
 
-import com.SerenityBDD.navigation.NavigateTo;
+import com.SerenityBDD.navigation.NavigationRegistry;
+import com.SerenityBDD.support.ScenarioContext;
 import io.cucumber.java.en.Given;
 import io.cucumber.java.en.When;
 import org.slf4j.LoggerFactory;
 import org.slf4j.spi.LoggingEventBuilder;
 
-import java.lang.reflect.InvocationTargetException;
-
 public class LoginStepDefinitions {
     public final LoggingEventBuilder LOGGER_INFO = LoggerFactory.getLogger(LoginStepDefinitions.class).atInfo();
 
     /**
      * Step definition for launching the browser and opening a login page.
-     *
-     * @throws NoSuchMethodException    If a matching method is not found.
-     * @throws InvocationTargetException If the invoked method throws an exception.
-     * @throws IllegalAccessException    If there's an issue accessing the method.
      * <p>
      * Example usage:
      * <pre>{@code
@@ -25,9 +20,9 @@ public class LoginStepDefinitions {
      * </p>
      */
     @Given("I launch the browser and open the home page")
-    public void launchBrowserAndOpenTheHomePage() throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
+    public void launchBrowserAndOpenTheHomePage() {
         System.setProperty("webdriver.http.factory", "jdk-http-client");
-        NavigateTo.class.getMethod("theHomePage").invoke(new NavigateTo());
+        NavigationRegistry.navigate("theHomePage", ScenarioContext.current().navigateTo());
     }
 
     /**
@@ -1,13 +1,12 @@
 package com.SerenityBDD.steps;
 
 import com.SerenityBDD.execute.Perform;
-import com.SerenityBDD.navigation.NavigateTo;
+import com.SerenityBDD.navigation.NavigationRegistry;
 import com.SerenityBDD.support.PageObjectOperations;
+import com.SerenityBDD.support.ScenarioContext;
 import io.cucumber.java.en.When;
 import net.thucydides.core.annotations.Steps;
 
-import java.lang.reflect.InvocationTargetException;
-
 public class PageNavigationStepDefinitions {
     @Steps
     Perform perform;
@@ -16,8 +15,8 @@ public class PageNavigationStepDefinitions {
     PageObjectOperations pageObjectOperations;
 
     @When("I navigate to {string} page")
-    public void iNavigateToPage(String page) throws NoSuchMethodException, InvocationTargetException, IllegalAccessException {
-        NavigateTo.class.getDeclaredMethod("the" + pageObjectOperations.pageObjectName(page) + "Page")
-                .invoke(new NavigateTo());
+    public void iNavigateToPage(String page) {
+        NavigationRegistry.navigate("the" + pageObjectOperations.pageObjectName(page) + "Page",
+                ScenarioContext.current().navigateTo());
     }
 }
@@ -4,7 +4,6 @@ import com.SerenityBDD.state.VerifyStateOf;
 import com.SerenityBDD.support.PageObjectOperations;
 import io.cucumber.java.en.Then;
 import io.cucumber.java.en.When;
-import net.serenitybdd.core.Serenity;
 import net.thucydides.core.annotations.Steps;
 
 import java.lang.reflect.Field;
@@ -35,8 +34,8 @@ public class PageStateVerificationStepDefinitions {
         Class<?> pageClass = pageObjectOperations.getPageClass(page, workflow);
         Field field = pageObjectOperations.poeFieldClass("PAGE_LOADED", page, workflow);
         verifyStateOf.theVisibilityOf(field, pageClass);
-        Serenity.setSessionVariable("Current Page").to(pageObjectOperations.pageObjectName(workflow)
-                .toLowerCase() + "." + pageObjectOperations.pageObjectName(page));
+        pageObjectOperations.focusOn(pageObjectOperations.pageObjectName(workflow).toLowerCase() + "."
+                + pageObjectOperations.pageObjectName(page), pageClass);
     }
 
     /**
@@ -56,8 +55,8 @@ public class PageStateVerificationStepDefinitions {
         Class<?> sectionClass = pageObjectOperations.getSectionClass(section, workflow);
         Field sectionLoaded = pageObjectOperations.poeSectionClass("SECTION_LOADED", section, workflow);
         verifyStateOf.theVisibilityOf(sectionLoaded, sectionClass);
-        Serenity.setSessionVariable("Current Page").to(pageObjectOperations.pageObjectName(workflow)
-                .toLowerCase() + ".section." + pageObjectOperations.pageObjectName(section));
+        pageObjectOperations.focusOn(pageObjectOperations.pageObjectName(workflow).toLowerCase() + ".section."
+                + pageObjectOperations.pageObjectName(section), sectionClass);
     }
 
     /**
@@ -77,8 +76,8 @@ public class PageStateVerificationStepDefinitions {
         Class<?> gridClass = pageObjectOperations.getGridClass(grid, workflow);
         Field field = pageObjectOperations.poeGridClass("GRID_LOADED", grid, workflow);
         verifyStateOf.theVisibilityOf(field, gridClass);
-        Serenity.setSessionVariable("Current Page").to(pageObjectOperations.pageObjectName(workflow)
-                .toLowerCase() + ".grids." + pageObjectOperations.pageObjectName(grid));
+        pageObjectOperations.focusOn(pageObjectOperations.pageObjectName(workflow).toLowerCase() + ".grids."
+                + pageObjectOperations.pageObjectName(grid), gridClass);
     }
 
     /**
@@ -94,11 +93,11 @@ public class PageStateVerificationStepDefinitions {
      */
     @Then("I should be on the {string} dialog under the {string} workflow")
     public void iShouldBeOnTheDialogUnderTheWorkflow(String dialog, String workflow) throws IllegalAccessException {
-        Class<?> dialogClass = pageObjectOperations.getPageClass(dialog, workflow);
+        Class<?> dialogClass = pageObjectOperations.getDialogClass(dialog, workflow);
         Field field = pageObjectOperations.poeDialogClass("DIALOG_LOADED", dialog, workflow);
         verifyStateOf.theVisibilityOf(field, dialogClass);
-        Serenity.setSessionVariable("Current Page").to(pageObjectOperations.pageObjectName(workflow)
-                .toLowerCase() + ".dialogs." + pageObjectOperations.pageObjectName(dialog));
+        pageObjectOperations.focusOn(pageObjectOperations.pageObjectName(workflow).toLowerCase() + ".dialogs."
+                + pageObjectOperations.pageObjectName(dialog), dialogClass);
     }
 
     /**
@@ -119,8 +118,7 @@ public class PageStateVerificationStepDefinitions {
         Class<?> tabClass = pageObjectOperations.getTabClass(tab, page, workflow);
         Field field = pageObjectOperations.poeTabClass("TAB_LOADED", tab, page, workflow);
         verifyStateOf.theVisibilityOf(field, tabClass);
-        Serenity.setSessionVariable("Current Page").to(pageObjectOperations.pageObjectName(workflow)
-                .toLowerCase() + ".tabs." + pageObjectOperations.pageObjectName(page) + "." +
-                pageObjectOperations.pageObjectName(tab));
+        pageObjectOperations.focusOn(pageObjectOperations.pageObjectName(workflow).toLowerCase() + ".tabs."
+                + pageObjectOperations.pageObjectName(page) + "." + pageObjectOperations.pageObjectName(tab), tabClass);
     }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.SerenityBDD.support;
+
+import net.serenitybdd.core.Serenity;
+import org.apache.commons.text.WordUtils;
+
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The tokens {@link DataObjectOperations#transformDataValue(String)} has always supported, as token providers.
+ */
+final class BuiltInTokenProviders {
+
+    private BuiltInTokenProviders() {
+    }
+
+    /**
+     * Get the built-in providers.
+     *
+     * @return List<TokenProvider> The built-in providers.
+     */
+    static List<TokenProvider> all() {
+        return List.of(new ClockTokens(), new RandomMobileNumberToken(), new SessionVariableToken(),
+                new FakeDataToken());
+    }
+
+    /**
+     * Dates and months of the current and the previous day.
+     */
+    static final class ClockTokens implements TokenProvider {
+        private static final DateTimeFormatter DATE_TIME_DTF = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm");
+        private static final String[] MONTH_NAMES = new String[Month.values().length];
+        private static final Map<String, Function<LocalDateTime, String>> TOKENS = new LinkedHashMap<>();
+
+        static {
+            for (Month month : Month.values()) MONTH_NAMES[month.ordinal()] = WordUtils.capitalizeFully(month.name());
+            DateTimeFormatter uiDtf = DataObjectOperations.DateTimeFormatters.UI_DTF.getDtf();
+            DateTimeFormatter hyphenDtf = DataObjectOperations.DateTimeFormatters.HYPHEN_DTF.getDtf();
+            DateTimeFormatter nameDtf = DataObjectOperations.DateTimeFormatters.NAME_DTF.getDtf();
+            DateTimeFormatter shortYearDtf = DataObjectOperations.DateTimeFormatters.SHORT_YEAR_DTF.getDtf();
+            TOKENS.put("CURRENT_DATE", uiDtf::format);
+            TOKENS.put("CURRENT_DATE_WITH_HYPHEN", hyphenDtf::format);
+            TOKENS.put("CURRENT_DATE_FOR_NAME", nameDtf::format);
+            TOKENS.put("CURRENT_DATE_TIME", DATE_TIME_DTF::format);
+            TOKENS.put("CURRENT_DATE_WITH_SHORT_YEAR", shortYearDtf::format);
+            TOKENS.put("PREVIOUS_DATE", now -> uiDtf.format(now.minusDays(1)));
+            TOKENS.put("PREVIOUS_DATE_WITH_HYPHEN", now -> hyphenDtf.format(now.minusDays(1)));
+            TOKENS.put("PREVIOUS_DATE_FOR_NAME", now -> nameDtf.format(now.minusDays(1)));
+            TOKENS.put("PREVIOUS_DATE_TIME", now -> DATE_TIME_DTF.format(now.minusDays(1)));
+            TOKENS.put("PREVIOUS_DATE_WITH_SHORT_YEAR", now -> shortYearDtf.format(now.minusDays(1)));
+            TOKENS.put("CURRENT_MONTH_NUMBER", now -> {
+                int currMonth = now.getMonthValue();
+                return currMonth < 10 ? "0" + currMonth : Integer.toString(currMonth);
+            });
+            TOKENS.put("CURRENT_MONTH_NAME", now -> MONTH_NAMES[now.getMonth().ordinal()]);
+        }
+
+        @Override
+        public Set<String> tokens() {
+            return TOKENS.keySet();
+        }
+
+        @Override
+        public String evaluate(String token, String argument, TokenContext context) {
+            return TOKENS.get(token).apply(context.now());
+        }
+    }
+
+    /**
+     * A random ten digit mobile number.
+     */
+    static final class RandomMobileNumberToken implements TokenProvider {
+        @Override
+        public Set<String> tokens() {
+            return Set.of("RANDOM_MOBILE_NUMBER");
+        }
+
+        @Override
+        public String evaluate(String token, String argument, TokenContext context) {
+            return String.valueOf((long) Math.floor(Math.random() * 9_000_000_000L) + 1_000_000_000L);
+        }
+    }
+
+    /**
+     * The value of the session variable named by the argument, if it holds an Integer, Long, Double or String.
+     * Session variables of other types leave the token name in place.
+     */
+    static final class SessionVariableToken implements TokenProvider {
+        @Override
+        public Set<String> tokens() {
+            return Set.of("SESSION_VARIABLE");
+        }
+
+        @Override
+        public boolean takesArgument(String token) {
+            return true;
+        }
+
+        @Override
+        public String evaluate(String token, String argument, TokenContext context) {
+            String name = argument.strip();
+            Object sessionValue = Serenity.sessionVariableCalled(name);
+            if (sessionValue == null) throw new RuntimeException("Session variable not found: " + name);
+            if (sessionValue instanceof Integer || sessionValue instanceof Long || sessionValue instanceof Double
+                    || sessionValue instanceof String) {
+                return sessionValue.toString();
+            }
+            return "SESSION_VARIABLE";
+        }
+    }
+
+    /**
+     * A field of a fake data record, named by the argument and recorded as a session variable named after the
+     * argument. Only the field is generated. "Field:record", e.g. "City:applicant", reads the field of the record
+     * shared by that name within the scenario, so several tokens can describe the same person and address; a bare
+     * field name reads a new record.
+     */
+    static final class FakeDataToken implements TokenProvider {
+        @Override
+        public Set<String> tokens() {
+            return Set.of("FAKE_DATA");
+        }
+
+        @Override
+        public boolean takesArgument(String token) {
+            return true;
+        }
+
+        @Override
+        public String evaluate(String token, String argument, TokenContext context) {
+            int separator = argument.indexOf(':');
+            FakeRecord record = separator < 0 ? context.data().fakeRecord()
+                    : context.data().fakeRecord(argument.substring(separator + 1).trim());
+            String field = separator < 0 ? argument : argument.substring(0, separator);
+            String fakeValue = record.get(field.trim());
+            Serenity.setSessionVariable(argument).to(fakeValue);
+            return fakeValue;
+        }
+    }
+}
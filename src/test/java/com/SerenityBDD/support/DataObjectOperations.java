@@ -1,172 +1,36 @@
 package com.SerenityBDD.support;
 
-import com.github.javafaker.Address;
 import com.github.javafaker.Faker;
-import net.serenitybdd.core.Serenity;
-import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.text.WordUtils;
 
 import java.time.*;
 import java.time.format.DateTimeFormatter;
-import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.stream.Collectors;
 
 public class DataObjectOperations {
-    final Faker faker = new Faker(new Locale("en-US"));
-
     /**
      * Takes the value as defined in the switch Parameter in String encapsulated in $---$ and convert to relevant string
-     * for dynamic data in feature file.
+     * for dynamic data in feature file. Each distinct value is parsed once into a {@link DataTemplate}.
      * @param value encapsulated in $---$
      * @return String
      */
     public String transformDataValue(String value) {
-        if (value.contains("`$`") || value.contains("`$") || value.contains("$`")) {
-            value = value.replace("`$", "$").replace("$`", "$");
-            return value;
-        }
-        String[] arr = value.split("\\$");
-        for (int i = 0; i < arr.length; i++) {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime previous = LocalDateTime.of(transformDateValue("t-1"), transformTimeValue("n"));
-            DateTimeFormatter dtf;
-            switch (arr[i]) {
-                case "CURRENT_DATE" -> arr[i] = DateTimeFormatters.UI_DTF.getDtf().format(now);
-                case "CURRENT_DATE_WITH_HYPHEN" -> arr[i] = DateTimeFormatters.HYPHEN_DTF.getDtf().format(now);
-                case "CURRENT_DATE_FOR_NAME" ->
-                        arr[i] = DateTimeFormatters.NAME_DTF.getDtf().format(now);
-                case "CURRENT_DATE_TIME" -> {
-                    dtf = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm");
-                    arr[i] = dtf.format(now);
-                }
-                case "CURRENT_DATE_WITH_SHORT_YEAR" -> arr[i] = DateTimeFormatters.SHORT_YEAR_DTF.getDtf().format(now);
-                case "PREVIOUS_DATE" -> arr[i] = DateTimeFormatters.UI_DTF.getDtf().format(previous);
-                case "PREVIOUS_DATE_WITH_HYPHEN" -> arr[i] = DateTimeFormatters.HYPHEN_DTF.getDtf().format(previous);
-                case "PREVIOUS_DATE_FOR_NAME" ->
-                        arr[i] = DateTimeFormatters.NAME_DTF.getDtf().format(previous);
-                case "PREVIOUS_DATE_TIME" -> {
-                    dtf = DateTimeFormatter.ofPattern("MM/dd/yyyy hh:mm");
-                    arr[i] = dtf.format(previous);
-                }
-                case "PREVIOUS_DATE_WITH_SHORT_YEAR" -> arr[i] = DateTimeFormatters.SHORT_YEAR_DTF.getDtf()
-                        .format(previous);
-                case "RANDOM_MOBILE_NUMBER" -> arr[i] = String.valueOf(
-                        (long) Math.floor(Math.random() * 9_000_000_000L) + 1_000_000_000L);
-                case "SESSION_VARIABLE" -> {
-                    Class<?> sessionVariableClass = Serenity.sessionVariableCalled(arr[i + 1].strip()).getClass();
-                    if (sessionVariableClass.equals(Integer.class)) {
-                        int sessionValue = Serenity.sessionVariableCalled(arr[i + 1].strip());
-                        arr[i] = Integer.toString(sessionValue);
-                    } else if (sessionVariableClass.equals(Long.class)) {
-                        long sessionValue = Serenity.sessionVariableCalled(arr[i + 1].strip());
-                        arr[i] = Long.toString(sessionValue);
-                    } else if (sessionVariableClass.equals(Double.class)) {
-                        double sessionValue = Serenity.sessionVariableCalled(arr[i + 1].strip());
-                        arr[i] = Double.toString(sessionValue);
-                    } else if (sessionVariableClass.equals(String.class)) {
-                        arr[i] = Serenity.sessionVariableCalled(arr[i + 1].strip());
-                    }
-                    arr[i + 1] = "";
-                }
-                case "FAKE_DATA" -> {
-                    HashMap<String, String> fakeData = generateFakeData();
-                    arr[i] = fakeData.get(arr[i + 1].trim());
-                    Serenity.setSessionVariable(arr[i + 1]).to(fakeData.get(arr[i + 1].trim()));
-                    arr[i + 1] = "";
-                }
-                case "CURRENT_MONTH_NUMBER" -> {
-                    int currMonth = now.getMonthValue();
-                    arr[i] = currMonth < 10 ? "0" + currMonth : Integer.toString(currMonth);
-                }
-                case "CURRENT_MONTH_NAME" -> arr[i] = WordUtils.capitalizeFully(now.getMonth().name());
-            }
-        }
-        return StringUtils.join(arr);
+        return DataTemplate.compile(value).evaluate(this);
     }
 
     /**
      * Returns the date in accordance with the value in #{@link LocalDate} format
      * As per the params with 't' or  'w', this method has the capability to add or subtract the dates in terms of days,
-     * months or years.
+     * weeks, months, years or business days, and to move to the end or start of the month. Each value is compiled once
+     * into a {@link RelativeDateExpression} and evaluated against the date of the scenario, so related values agree
+     * across midnight.
      * When using this method for printing a value, make sure to use {@link #transformUIDateValue(String)} with it
      * as this will return {@link LocalDate} format of Java
-     * @param value t, t+1, t-1, t+2m, t-2m, t+2y, t-2y, w
+     * @param value t, t+1, t-1, t+2m, t-2m, t+2y, t-2y, w, w-1/t+3, t+1y-2m, t+5bd, t+1m@eom
      * @return #@{@link LocalDate}
      */
     public LocalDate transformDateValue(String value) {
-        if (value.equals("t")) return LocalDate.now();
-        LocalDate currentWeekFirstDay;
-        if (value.equals("w")) {
-            currentWeekFirstDay = LocalDate.now().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-            return currentWeekFirstDay;
-        }
-        // Deducing if days, months or years to add or subtract
-        boolean toAdd = value.contains("+");
-        boolean toSubtract = value.contains("-");
-        LocalDate finalValue = LocalDate.now();
-
-        if (value.startsWith("t")) {
-            String[] arr = value.contains("+") ? value.split("\\+") : value.split("-");
-            try {
-                arr[1] = arr[1].contains("&dtf=") ? arr[1].split("&dtf=")[0] : arr[1];
-            } catch (ArrayIndexOutOfBoundsException ignored) {}
-            if (toAdd) {
-                if (arr[1].toLowerCase().contains("m")) {
-                    finalValue = LocalDate.now().plusMonths(Integer.parseInt(arr[1].toLowerCase().split("m")[0]));
-                } else if (arr[1].toLowerCase().contains("y")) {
-                    finalValue = LocalDate.now().plusYears(Integer.parseInt(arr[1].toLowerCase().split("y")[0]));
-                } else {
-                    finalValue = LocalDate.now().plusDays(Integer.parseInt(arr[1]));
-                }
-            } else if(toSubtract) {
-                if (arr[1].toLowerCase().contains("m")) {
-                    finalValue = LocalDate.now().minusMonths(Integer.parseInt(arr[1].toLowerCase().split("m")[0]));
-                } else if (arr[1].toLowerCase().contains("y")) {
-                    finalValue = LocalDate.now().minusYears(Integer.parseInt(arr[1].toLowerCase().split("y")[0]));
-                } else {
-                    finalValue = LocalDate.now().minusDays(Integer.parseInt(arr[1]));
-                }
-            }
-        }
-        if (value.startsWith("w")) {
-            if (value.contains("t")) {
-                String[] weekAndDay = value.split("/");
-                String[] weekAndAppendages = weekAndDay[0].contains("-") ? weekAndDay[0].split("-") :
-                        weekAndDay[0].split("\\+");
-
-                boolean weekToAdd = weekAndDay[0].contains("+"); boolean weekToSubtract = weekAndDay[0].contains("-");
-
-                if (weekToAdd) {
-                    finalValue = LocalDate.now().plusWeeks(Integer.parseInt(weekAndAppendages[1]))
-                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-                } else if (weekToSubtract) {
-                    finalValue = LocalDate.now().minusWeeks(Integer.parseInt(weekAndAppendages[1]))
-                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-                }
-
-                String[] dayAndAppendages = weekAndDay[1].contains("-") ? weekAndDay[1].split("-") :
-                        weekAndDay[1].split("\\+");
-
-                boolean dayToAdd = weekAndDay[1].contains("+"); boolean dayToSubtract = weekAndDay[1].contains("-");
-
-                if (dayToAdd) finalValue = finalValue.plusDays(Integer.parseInt(dayAndAppendages[1]));
-                else if (dayToSubtract) finalValue = finalValue.minusDays(Integer.parseInt(dayAndAppendages[1]));
-            } else {
-                String[] weekAndAppendages = value.contains("-") ? value.split("-") : value.split("\\+");
-
-                boolean weekToAdd = value.contains("+"); boolean weekToSubtract = value.contains("-");
-
-                if (weekToAdd) {
-                    finalValue = LocalDate.now().plusWeeks(Integer.parseInt(weekAndAppendages[1]))
-                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-                } else if (weekToSubtract) {
-                    finalValue = LocalDate.now().minusWeeks(Integer.parseInt(weekAndAppendages[1]))
-                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-                }
-            }
-        }
-        return finalValue;
+        return RelativeDateExpression.compile(value).evaluate(ScenarioContext.current().today());
     }
 
     /**
@@ -190,38 +54,17 @@ public class DataObjectOperations {
 
     /**
      * Returns the time in accordance with the value in #{@link LocalTime} format
-     * As per the params with 'n', this method has the capability to add or subtract the current time in terms of minute
-     * and hour.
+     * As per the params with 'n', this method has the capability to add or subtract the current time in terms of
+     * hours, minutes and seconds. 'n' is the time of the scenario, see {@link ScenarioContext#now()}. Each value is
+     * compiled once into a {@link RelativeTimeExpression}.
      * When using this method for printing a value, make sure to use
      * {@link #transformTimeValue(String, DateTimeFormatter)} with it as this will return {@link LocalTime} format of
      * Java.
-     * @param value n, n+1, n-1, n+2m, n-2m, n+2h, n-2h
+     * @param value n, n+2m, n-2m, n+2h, n-2h, n+1h-15m
      * @return #@{@link LocalTime}
-     */public LocalTime transformTimeValue(String value) {
-        if (value.equals("n")) {
-            return LocalTime.now();
-        }
-        String[] arr = value.contains("+") ? value.split("\\+") : value.split("-");
-
-        // Deducing if days, months or years to add or subtract
-        boolean toAdd = value.contains("+");
-        boolean toSubtract = value.contains("-");
-        LocalTime finalValue = null;
-
-        if (toAdd) {
-            if (arr[1].toLowerCase().contains("m")) {
-                finalValue = LocalTime.now().plusMinutes(Integer.parseInt(arr[1].toLowerCase().split("m")[0]));
-            } else if (arr[1].toLowerCase().contains("h")) {
-                finalValue = LocalTime.now().plusHours(Integer.parseInt(arr[1].toLowerCase().split("h")[0]));
-            }
-        } else if(toSubtract) {
-            if (arr[1].toLowerCase().contains("m")) {
-                finalValue = LocalTime.now().minusMinutes(Integer.parseInt(arr[1].toLowerCase().split("m")[0]));
-            } else if (arr[1].toLowerCase().contains("h")) {
-                finalValue = LocalTime.now().minusHours(Integer.parseInt(arr[1].toLowerCase().split("h")[0]));
-            }
-        }
-        return finalValue;
+     */
+    public LocalTime transformTimeValue(String value) {
+        return RelativeTimeExpression.compile(value).evaluate(ScenarioContext.current().now().toLocalTime());
     }
 
     /**
@@ -265,29 +108,25 @@ public class DataObjectOperations {
      * @return HashMap<String, String>
      */
     public HashMap<String, String> generateFakeData() {
-        HashMap<String, String> fakeData = new HashMap<>();
-        Address address = faker.address();
-        String zipCode = address.zipCode();
-        zipCode = zipCode.contains("-") ? zipCode.split("-")[0] : zipCode;
-        fakeData.put("Address Line 1", address.streetAddress());
-        fakeData.put("Street", address.streetName());
-        fakeData.put("City", address.cityName());
-        fakeData.put("State", address.state());
-        fakeData.put("Latitude", address.latitude());
-        fakeData.put("Longitude", address.longitude());
-        try { fakeData.put("County", address.countyByZipCode(zipCode)); } catch (Exception ignored) {}
-        fakeData.put("Country", "USA");
-        fakeData.put("Zip Code", zipCode);
-        fakeData.put("Email", faker.bothify("????##@yopmail.com"));
-        fakeData.put("Birth Date", transformUIDateValue("t-" + faker.number().numberBetween(25, 80) + "y"));
-        fakeData.put("SSN", faker.idNumber().ssnValid());
-        fakeData.put("Work Phone", faker.phoneNumber().phoneNumber());
-        fakeData.put("Home Phone", faker.phoneNumber().phoneNumber());
-        fakeData.put("Mobile", faker.phoneNumber().cellPhone());
-        fakeData.put("Contact Phone", faker.phoneNumber().subscriberNumber());
-        fakeData.put("Company Name", faker.company().name());
-        fakeData.put("Community Name", faker.harryPotter().house());
-        return fakeData;
+        return fakeRecord().toMap();
+    }
+
+    /**
+     * Take a fake data record from the shared {@link FakeDataService}.
+     * @return FakeRecord
+     */
+    public FakeRecord fakeRecord() {
+        return FakeDataService.getInstance().newRecord();
+    }
+
+    /**
+     * Get the fake data record shared by name within the scenario, creating it on first use, so several values can
+     * refer to the same person and address.
+     * @param name of the record, e.g. "applicant"
+     * @return FakeRecord
+     */
+    public FakeRecord fakeRecord(String name) {
+        return ScenarioContext.current().fakeRecords().computeIfAbsent(name, n -> fakeRecord());
     }
 
     /**
@@ -297,13 +136,8 @@ public class DataObjectOperations {
      */
     public List<Map<String, String>> transformDataTable(List<Map<String, String>> dataTable) {
         dataTable = createWritableCopy(dataTable);
-        dataTable.forEach(dataRow ->
-                dataRow.keySet().forEach(key -> {
-                    if (dataRow.get(key).contains("$")) {
-                        dataRow.put(key, transformDataValue(dataRow.get(key)));
-                    }
-                })
-        );
+        dataTable.forEach(dataRow -> dataRow.replaceAll((key, cell) ->
+                cell != null && cell.indexOf('$') >= 0 ? transformDataValue(cell) : cell));
         return dataTable;
     }
 
@@ -0,0 +1,148 @@
+package com.SerenityBDD.support;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A data value with tokens encapsulated in $---$, parsed once into literal and token nodes and cached by its text.
+ * Every "$"-separated segment naming a token of the {@link TokenRegistry} is replaced, tokens taking an argument
+ * consume the following segment, and the "$" separators are dropped, as
+ * {@link DataObjectOperations#transformDataValue(String)} always did. Values containing an escaped "`$" or "$`" are
+ * plain literals. All clock tokens of one evaluation read the same instant.
+ */
+public final class DataTemplate {
+
+    /**
+     * Templates beyond this many are compiled on every use instead of cached, so unique values cannot grow the cache
+     * without bound.
+     */
+    static final int MAX_CACHED_TEMPLATES = 10_000;
+
+    private static final Map<String, DataTemplate> TEMPLATES = new ConcurrentHashMap<>();
+
+    private final Node[] nodes;
+    private final int literalLength;
+
+    private DataTemplate(List<Node> nodes) {
+        this.nodes = nodes.toArray(new Node[0]);
+        int length = 0;
+        for (Node node : nodes) if (node instanceof Literal literal) length += literal.text().length();
+        this.literalLength = length;
+    }
+
+    /**
+     * Get the compiled template of a value, parsing it on first use.
+     *
+     * @param value The value with tokens encapsulated in $---$.
+     * @return DataTemplate The compiled template.
+     */
+    public static DataTemplate compile(String value) {
+        DataTemplate template = TEMPLATES.get(value);
+        if (template == null) {
+            template = parse(value);
+            if (TEMPLATES.size() < MAX_CACHED_TEMPLATES) TEMPLATES.put(value, template);
+        }
+        return template;
+    }
+
+    /**
+     * Evaluates the template at the instant of the scenario, see {@link ScenarioContext#now()}, so clock tokens agree
+     * with relative dates such as "t" and times such as "n".
+     *
+     * @param data The data operations the tokens are evaluated with.
+     * @return String The value with every token replaced.
+     */
+    public String evaluate(DataObjectOperations data) {
+        if (nodes.length == 0) return "";
+        if (nodes.length == 1 && nodes[0] instanceof Literal literal) return literal.text();
+        return evaluate(data, ScenarioContext.current().now());
+    }
+
+    /**
+     * Evaluates the template at the given instant.
+     *
+     * @param data The data operations the tokens are evaluated with.
+     * @param now  The instant clock tokens read.
+     * @return String The value with every token replaced.
+     */
+    String evaluate(DataObjectOperations data, LocalDateTime now) {
+        TokenContext context = new TokenContext(now, data);
+        StringBuilder result = new StringBuilder(literalLength + 16 * nodes.length);
+        for (Node node : nodes) node.appendTo(result, context);
+        return result.toString();
+    }
+
+    /**
+     * Get the nodes the template was parsed into.
+     *
+     * @return List<Node> The literal and token nodes, in order.
+     */
+    List<Node> nodes() {
+        return List.of(nodes);
+    }
+
+    private static DataTemplate parse(String value) {
+        List<Node> nodes = new ArrayList<>();
+        if (value.contains("`$`") || value.contains("`$") || value.contains("$`")) {
+            nodes.add(new Literal(value.replace("`$", "$").replace("$`", "$")));
+            return new DataTemplate(nodes);
+        }
+        String[] segments = value.split("\\$");
+        StringBuilder literal = new StringBuilder();
+        for (int i = 0; i < segments.length; i++) {
+            Optional<TokenRegistry.Registration> registration = TokenRegistry.getInstance().find(segments[i]);
+            if (registration.isEmpty()) {
+                literal.append(segments[i]);
+                continue;
+            }
+            String argument = registration.get().takesArgument() ? argumentOf(segments, i++) : null;
+            Node node = new ProvidedToken(registration.get(), argument);
+            if (literal.length() > 0) {
+                nodes.add(new Literal(literal.toString()));
+                literal.setLength(0);
+            }
+            nodes.add(node);
+        }
+        if (literal.length() > 0) nodes.add(new Literal(literal.toString()));
+        return new DataTemplate(nodes);
+    }
+
+    private static String argumentOf(String[] segments, int tokenIndex) {
+        if (tokenIndex + 1 >= segments.length) {
+            throw new RuntimeException("Missing argument for $" + segments[tokenIndex] + "$ in the data value.");
+        }
+        return segments[tokenIndex + 1];
+    }
+
+    /**
+     * A part of a compiled template.
+     */
+    sealed interface Node permits Literal, ProvidedToken {
+        void appendTo(StringBuilder result, TokenContext context);
+    }
+
+    /**
+     * Text copied as it is, including the text of values with an escaped "$".
+     */
+    record Literal(String text) implements Node {
+        @Override
+        public void appendTo(StringBuilder result, TokenContext context) {
+            result.append(text);
+        }
+    }
+
+    /**
+     * A token evaluated by its provider.
+     */
+    record ProvidedToken(TokenRegistry.Registration registration, String argument) implements Node {
+        @Override
+        public void appendTo(StringBuilder result, TokenContext context) {
+            String value = registration.evaluate(argument, context);
+            if (value != null) result.append(value);
+        }
+    }
+}
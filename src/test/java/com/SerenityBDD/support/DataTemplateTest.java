@@ -0,0 +1,68 @@
+package com.SerenityBDD.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of how {@link DataTemplate} parses data values and evaluates its built-in clock tokens at a fixed instant.
+ */
+class DataTemplateTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 0, 5);
+
+    @Test
+    void escapedDollarsKeepTheValueAsLiteral() {
+        assertEquals("Price $100", DataTemplate.compile("Price `$`100").evaluate(null));
+        assertEquals("$CURRENT_DATE$", DataTemplate.compile("`$CURRENT_DATE$`").evaluate(null));
+        assertEquals(List.of(new DataTemplate.Literal("$CURRENT_DATE$")),
+                DataTemplate.compile("`$CURRENT_DATE$`").nodes());
+    }
+
+    @Test
+    void separatorsOfSegmentsThatAreNoTokensAreDropped() {
+        assertEquals("ab cd", DataTemplate.compile("a$b cd$").evaluate(null));
+        assertEquals("", DataTemplate.compile("").evaluate(null));
+    }
+
+    @Test
+    void tokensAreReplacedWithinTheirLiterals() {
+        assertEquals("Due 03/01/2024, sent 02/29/2024!",
+                DataTemplate.compile("Due $CURRENT_DATE$, sent $PREVIOUS_DATE$!").evaluate(null, NOW));
+        assertEquals("03March", DataTemplate.compile("$CURRENT_MONTH_NUMBER$$CURRENT_MONTH_NAME$").evaluate(null, NOW));
+    }
+
+    @Test
+    void tokensTakingAnArgumentConsumeTheFollowingSegment() {
+        List<DataTemplate.Node> nodes = DataTemplate.compile("Hello $SESSION_VARIABLE$user name$!").nodes();
+
+        assertEquals(3, nodes.size());
+        assertEquals(new DataTemplate.Literal("Hello "), nodes.get(0));
+        DataTemplate.ProvidedToken token = (DataTemplate.ProvidedToken) nodes.get(1);
+        assertEquals("SESSION_VARIABLE", token.registration().token());
+        assertEquals("user name", token.argument());
+        assertEquals(new DataTemplate.Literal("!"), nodes.get(2));
+    }
+
+    @Test
+    void tokenWithoutItsArgumentIsRejected() {
+        RuntimeException e = assertThrows(RuntimeException.class,
+                () -> DataTemplate.compile("Hello $SESSION_VARIABLE$"));
+        assertTrue(e.getMessage().contains("$SESSION_VARIABLE$"));
+    }
+
+    @Test
+    void valuesAreCompiledOnce() {
+        DataTemplate template = DataTemplate.compile("On $CURRENT_DATE$ at noon");
+
+        assertSame(template, DataTemplate.compile("On $CURRENT_DATE$ at noon"));
+        assertEquals("On 03/01/2024 at noon", template.evaluate(null, NOW));
+        assertEquals("On 03/02/2024 at noon", template.evaluate(null, NOW.plusDays(1)));
+    }
+}
@@ -0,0 +1,176 @@
+package com.SerenityBDD.support;
+
+import org.openqa.selenium.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Per-scenario cache of the element found for each By locator. A MutationObserver injected into the page counts
+ * structural DOM changes, and the cache is dropped whenever that count, or the document it lives in, changed. The count
+ * is checked at most once per step and after clicks and navigation, so repeated lookups within a step cost no round
+ * trip, and not at all while nothing is cached, since no cached element can be outdated then. Actions on a cached
+ * element that turned stale are retried once with a fresh lookup. Text and attribute changes are counted separately, so
+ * data read from the page, e.g. grid snapshots, can be reused while the content is unchanged.
+ */
+public class ElementCache {
+
+    private static final String GENERATION_SCRIPT =
+            "var generation = window.__serenityDomGeneration;                                       " +
+                    "if (!generation) {                                                             " +
+                    "  generation = window.__serenityDomGeneration = {                              " +
+                    "    id: Math.random().toString(36).slice(2), count: 0, text: 0 };              " +
+                    "  new MutationObserver(function (mutations) {                                  " +
+                    "    mutations.forEach(function (mutation) {                                    " +
+                    "      if (mutation.type === 'childList') generation.count++;                   " +
+                    "      else generation.text++;                                                  " +
+                    "    });                                                                        " +
+                    "  }).observe(document,                                                         " +
+                    "      {childList: true, characterData: true, attributes: true, subtree: true});" +
+                    "}                                                                              " +
+                    "return generation.id + ':' + generation.count + ':' + generation.text;         ";
+
+    private final Map<By, WebElement> elements = new HashMap<>();
+    private String generation;
+    private String contentGeneration;
+    private boolean needsRevalidation = true;
+    private boolean needsContentCheck = true;
+    private long hits;
+    private long misses;
+    private long staleRetries;
+    private long invalidations;
+
+    /**
+     * Finds the first element matching the locator, reusing the element found earlier while the DOM is unchanged.
+     *
+     * @param driver The driver of the scenario.
+     * @param by     The locator of the element.
+     * @return WebElement The element.
+     * @throws NoSuchElementException If no element matches the locator.
+     */
+    public WebElement find(WebDriver driver, By by) {
+        revalidating(driver);
+        WebElement element = elements.get(by);
+        if (element != null) {
+            hits++;
+            return element;
+        }
+        misses++;
+        element = driver.findElement(by);
+        elements.put(by, element);
+        return element;
+    }
+
+    /**
+     * Reads from the element of a locator, retrying once with a fresh lookup if the cached element turned stale.
+     *
+     * @param driver The driver of the scenario.
+     * @param by     The locator of the element.
+     * @param read   The read to perform on the element.
+     * @return T The result of the read.
+     */
+    public <T> T readingFrom(WebDriver driver, By by, Function<WebElement, T> read) {
+        try {
+            return read.apply(find(driver, by));
+        } catch (StaleElementReferenceException e) {
+            staleRetries++;
+            elements.remove(by);
+            return read.apply(find(driver, by));
+        }
+    }
+
+    /**
+     * Performs an action on the element of a locator, retrying once with a fresh lookup if the cached element turned
+     * stale.
+     *
+     * @param driver The driver of the scenario.
+     * @param by     The locator of the element.
+     * @param action The action to perform on the element.
+     */
+    public void actingOn(WebDriver driver, By by, Consumer<WebElement> action) {
+        readingFrom(driver, by, element -> {
+            action.accept(element);
+            return null;
+        });
+    }
+
+    /**
+     * Requests the DOM generation to be checked on the next lookup, e.g. at the end of a step or after a click.
+     */
+    public void revalidate() {
+        needsRevalidation = true;
+        needsContentCheck = true;
+    }
+
+    /**
+     * Drops every cached element, e.g. after navigating to another document or window.
+     */
+    public void invalidate() {
+        if (!elements.isEmpty()) invalidations++;
+        elements.clear();
+        generation = null;
+        contentGeneration = null;
+        needsRevalidation = true;
+        needsContentCheck = true;
+    }
+
+    /**
+     * Get the generation of the DOM content, including text and attribute changes, as of the last check. Data
+     * captured from the page under the same content generation is still current.
+     *
+     * @param driver The driver of the scenario.
+     * @return String The content generation, null if it cannot be tracked on the page.
+     */
+    public String contentGeneration(WebDriver driver) {
+        if (needsContentCheck) checkingGeneration(driver);
+        return contentGeneration;
+    }
+
+    public long hits() {
+        return hits;
+    }
+
+    public long misses() {
+        return misses;
+    }
+
+    public long staleRetries() {
+        return staleRetries;
+    }
+
+    public long invalidations() {
+        return invalidations;
+    }
+
+    private void revalidating(WebDriver driver) {
+        if (!needsRevalidation) return;
+        if (elements.isEmpty()) {
+            // Elements cached from now on are compared with the last known generation on the next check, which can
+            // only drop them too early, never keep them too long.
+            needsRevalidation = false;
+            return;
+        }
+        checkingGeneration(driver);
+    }
+
+    private void checkingGeneration(WebDriver driver) {
+        try {
+            contentGeneration = (String) ((JavascriptExecutor) driver).executeScript(GENERATION_SCRIPT);
+        } catch (WebDriverException e) {
+            contentGeneration = null;
+        }
+        // Text and attribute changes keep element references valid, so only the document and its structure are
+        // compared.
+        String currentGeneration = contentGeneration == null ? null
+                : contentGeneration.substring(0, contentGeneration.lastIndexOf(':'));
+        if (currentGeneration == null || !currentGeneration.equals(generation)) {
+            if (!elements.isEmpty()) invalidations++;
+            elements.clear();
+        }
+        generation = currentGeneration;
+        needsRevalidation = currentGeneration == null;
+        needsContentCheck = currentGeneration == null;
+    }
+}
@@ -0,0 +1,93 @@
+package com.SerenityBDD.support;
+
+import com.github.javafaker.Faker;
+import org.slf4j.LoggerFactory;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * The single source of fake data of the run. Each thread gets one {@link Faker}, loading the locale data once per
+ * thread instead of once per record, and generates with it without waiting for other threads. Records are created
+ * empty and generate a field only when it is read, see {@link FakeRecord}.
+ * Setting the "fake.data.seed" system property makes every field a function of the seed, the position of its record
+ * among the records of the run and the field name, so a record reads the same values whatever order its fields are
+ * read in. Records are numbered in the order they are requested, so a seeded run is only reproducible when its
+ * scenarios run on a single thread.
+ */
+public final class FakeDataService {
+    public static final LoggingEventBuilder LOGGER_INFO = LoggerFactory.getLogger(FakeDataService.class).atInfo();
+
+    static final String SEED_PROPERTY = "fake.data.seed";
+
+    private static final Locale LOCALE = new Locale("en-US");
+
+    private final Long seed;
+    private final AtomicLong records = new AtomicLong();
+    private final ThreadLocal<ThreadFaker> fakers = ThreadLocal.withInitial(() -> {
+        Random random = new Random();
+        return new ThreadFaker(new Faker(LOCALE, random), random);
+    });
+
+    private FakeDataService(Long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Returns the service, reading the seed on first use.
+     *
+     * @return FakeDataService The service shared by the whole run.
+     */
+    public static FakeDataService getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Creates a record generating its fields on first access.
+     *
+     * @return FakeRecord A fake data record no one else holds.
+     */
+    public FakeRecord newRecord() {
+        long record = records.getAndIncrement();
+        return new FakeRecord(this, seed == null ? record : seed * 1_000_003L + record);
+    }
+
+    /**
+     * Generates a field of a record with the Faker of the current thread, reseeded for the record and field first
+     * when the run is seeded.
+     *
+     * @param recordSeed The seed of the record, see {@link #newRecord()}.
+     * @param field      The name of the field.
+     * @param generator  Generates the value, e.g. {@code faker -> faker.address().cityName()}.
+     * @param <T>        The type of the value.
+     * @return T The generated value.
+     */
+    <T> T generating(long recordSeed, String field, Function<Faker, T> generator) {
+        ThreadFaker threadFaker = fakers.get();
+        if (seed != null) threadFaker.random().setSeed(recordSeed * 31 + field.hashCode());
+        return generator.apply(threadFaker.faker());
+    }
+
+    private static FakeDataService start() {
+        String seed = System.getProperty(SEED_PROPERTY);
+        if (seed == null || seed.isBlank()) return new FakeDataService(null);
+        LOGGER_INFO.log("Generating fake data with seed: " + seed.trim());
+        return new FakeDataService(Long.parseLong(seed.trim()));
+    }
+
+    /**
+     * The Faker of a thread and the Random it draws from.
+     *
+     * @param faker  The Faker.
+     * @param random The Random passed to the Faker.
+     */
+    private record ThreadFaker(Faker faker, Random random) {
+    }
+
+    private static final class Holder {
+        static final FakeDataService INSTANCE = start();
+    }
+}
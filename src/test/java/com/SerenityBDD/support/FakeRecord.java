@@ -0,0 +1,115 @@
+package com.SerenityBDD.support;
+
+import com.github.javafaker.Faker;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * A fake person and address record for the US locale whose fields are generated with {@link Faker} on first access
+ * and then kept, so a data value using one field pays for that field only, and every read of a field of the same
+ * record returns the same value. Fields derived from the same value, e.g. the county from the zip code, agree.
+ */
+public final class FakeRecord {
+
+    private static final Map<String, Function<FakeRecord, String>> FIELDS = new LinkedHashMap<>();
+
+    static {
+        FIELDS.put("Address Line 1", record -> record.faking(faker -> faker.address().streetAddress()));
+        FIELDS.put("Street", record -> record.faking(faker -> faker.address().streetName()));
+        FIELDS.put("City", record -> record.faking(faker -> faker.address().cityName()));
+        FIELDS.put("State", record -> record.faking(faker -> faker.address().state()));
+        FIELDS.put("Latitude", record -> record.faking(faker -> faker.address().latitude()));
+        FIELDS.put("Longitude", record -> record.faking(faker -> faker.address().longitude()));
+        FIELDS.put("County", record -> {
+            String zipCode = record.get("Zip Code");
+            try {
+                return record.faking(faker -> faker.address().countyByZipCode(zipCode));
+            } catch (Exception ignored) {
+                return null;
+            }
+        });
+        FIELDS.put("Country", record -> "USA");
+        FIELDS.put("Zip Code", record -> {
+            String zipCode = record.faking(faker -> faker.address().zipCode());
+            return zipCode.contains("-") ? zipCode.split("-")[0] : zipCode;
+        });
+        FIELDS.put("Email", record -> record.faking(faker -> faker.bothify("????##@yopmail.com")));
+        FIELDS.put("Birth Date", record -> DataObjectOperations.DateTimeFormatters.UI_DTF.getDtf().format(
+                ScenarioContext.current().today()
+                        .minusYears(record.faking(faker -> faker.number().numberBetween(25, 80)))));
+        FIELDS.put("SSN", record -> record.faking(faker -> faker.idNumber().ssnValid()));
+        FIELDS.put("Work Phone", record -> record.faking(faker -> faker.phoneNumber().phoneNumber()));
+        FIELDS.put("Home Phone", record -> record.faking(faker -> faker.phoneNumber().phoneNumber()));
+        FIELDS.put("Mobile", record -> record.faking(faker -> faker.phoneNumber().cellPhone()));
+        FIELDS.put("Contact Phone", record -> record.faking(faker -> faker.phoneNumber().subscriberNumber()));
+        FIELDS.put("Company Name", record -> record.faking(faker -> faker.company().name()));
+        FIELDS.put("Community Name", record -> record.faking(faker -> faker.harryPotter().house()));
+    }
+
+    private final FakeDataService service;
+    private final long seed;
+    private final Map<String, Optional<String>> values = new HashMap<>();
+    private String generatedField;
+
+    /**
+     * Constructor for a record with no field generated yet.
+     *
+     * @param service The service generating the fields.
+     * @param seed    The seed of the record, see {@link FakeDataService#newRecord()}.
+     */
+    FakeRecord(FakeDataService service, long seed) {
+        this.service = service;
+        this.seed = seed;
+    }
+
+    /**
+     * Get the names of the fields a record has.
+     *
+     * @return Set<String> The field names, e.g. "City" or "Zip Code".
+     */
+    public static Set<String> fields() {
+        return Collections.unmodifiableSet(FIELDS.keySet());
+    }
+
+    /**
+     * Get a field of the record, generating it on first access.
+     *
+     * @param field The field name, e.g. "City".
+     * @return String The value of the field, null if the record has no such field or it could not be generated.
+     */
+    public String get(String field) {
+        Optional<String> value = values.get(field);
+        if (value == null) {
+            Function<FakeRecord, String> generator = FIELDS.get(field);
+            if (generator == null) return null;
+            String enclosingField = generatedField;
+            generatedField = field;
+            try {
+                value = Optional.ofNullable(generator.apply(this));
+            } finally {
+                generatedField = enclosingField;
+            }
+            values.put(field, value);
+        }
+        return value.orElse(null);
+    }
+
+    private <T> T faking(Function<Faker, T> generator) {
+        return service.generating(seed, generatedField, generator);
+    }
+
+    /**
+     * Get every field of the record, generating the ones not accessed yet.
+     *
+     * @return HashMap<String, String> The fields by name, without the ones that could not be generated.
+     */
+    public HashMap<String, String> toMap() {
+        HashMap<String, String> fields = new HashMap<>();
+        for (String field : FIELDS.keySet()) {
+            String value = get(field);
+            if (value != null) fields.put(field, value);
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,131 @@
+package com.SerenityBDD.support;
+
+import org.openqa.selenium.By;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The page, section, grid, dialog or tab a scenario is currently focused on, resolved once when it is focused and
+ * reused by every following step. Element fields are resolved on first use and kept for the rest of the scenario.
+ */
+public class FocusedPage {
+
+    private final String name;
+    private final PageObjectRegistry.Kind kind;
+    private final String workflow;
+    private final Class<?> pageClass;
+    private final Map<String, Field> fields = new HashMap<>();
+
+    /**
+     * Constructor for a focused page object.
+     *
+     * @param name      The name relative to the pages package, as kept in the "Current Page" session variable.
+     * @param pageClass The page object class.
+     */
+    public FocusedPage(String name, Class<?> pageClass) {
+        int workflowEnd = name.indexOf('.');
+        this.name = name;
+        this.kind = PageObjectRegistry.Kind.resoluteKind(name);
+        this.workflow = workflowEnd < 0 ? "" : name.substring(0, workflowEnd);
+        this.pageClass = pageClass;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public PageObjectRegistry.Kind kind() {
+        return kind;
+    }
+
+    public String workflow() {
+        return workflow;
+    }
+
+    public Class<?> pageClass() {
+        return pageClass;
+    }
+
+    /**
+     * Retrieves the Field object for an element of the focused page object.
+     *
+     * @param poeName The element name, normalized with {@link NameNormalizer#poeName(String)}.
+     * @return Field The Field object representing the Page Object element.
+     * @throws RuntimeException If the element field is not found or accessible.
+     */
+    public Field field(String poeName) {
+        String elementName = NameNormalizer.poeName(poeName);
+        Field field = fields.get(elementName);
+        if (field == null) {
+            field = resolveField(elementName);
+            fields.put(elementName, field);
+        }
+        return field;
+    }
+
+    /**
+     * Retrieves the By locator for an element of the focused page object.
+     *
+     * @param poeName The element name, normalized with {@link NameNormalizer#poeName(String)}.
+     * @return By The By locator of the element.
+     */
+    public By locator(String poeName) {
+        return LocatorCache.locatorOf(field(poeName), pageClass);
+    }
+
+    /**
+     * Retrieves the By locator for an element the focused page object may not declare, e.g. the paging controls of
+     * a grid.
+     *
+     * @param poeName The element name, normalized with {@link NameNormalizer#poeName(String)}.
+     * @return Optional<By> The By locator of the element, empty if the page object has no such element.
+     */
+    public Optional<By> optionalLocator(String poeName) {
+        String elementName = NameNormalizer.poeName(poeName);
+        Field field = fields.get(elementName);
+        if (field == null) {
+            Optional<Field> foundField = findField(elementName);
+            if (foundField.isEmpty()) return Optional.empty();
+            field = foundField.get();
+            fields.put(elementName, field);
+        }
+        return Optional.of(LocatorCache.locatorOf(field, pageClass));
+    }
+
+    /**
+     * Retrieves the By locator of the container of the focused section, grid or dialog, i.e. its SECTION_LOADED,
+     * GRID_LOADED or DIALOG_LOADED element. Pages, tabs and page objects without such an element are contained by
+     * the whole document.
+     *
+     * @return By The By locator of the container.
+     */
+    public By containerLocator() {
+        Optional<By> container = switch (kind) {
+            case SECTION, GRID, DIALOG -> optionalLocator(kind.name() + "_LOADED");
+            case PAGE, TAB -> Optional.empty();
+        };
+        return container.orElseGet(() -> By.tagName("html"));
+    }
+
+    private Field resolveField(String elementName) {
+        return findField(elementName).orElseThrow(() -> new RuntimeException("Unable to find " + elementName
+                + " field in the class: " + pageClass.getName() + ". Perhaps element does not exist."));
+    }
+
+    private Optional<Field> findField(String elementName) {
+        Optional<Field> indexedField = PageObjectRegistry.getInstance().find(pageClass)
+                .flatMap(entry -> entry.publicField(elementName));
+        if (indexedField.isPresent()) return indexedField;
+        try {
+            return Optional.of(pageClass.getField(elementName));
+        } catch (NoSuchFieldException e) {
+            return Optional.empty();
+        } catch (SecurityException e) {
+            throw new RuntimeException("Unable to access " + elementName + " field in the class: "
+                    + pageClass.getName() + ". Perhaps element access is not allowed.");
+        }
+    }
+}
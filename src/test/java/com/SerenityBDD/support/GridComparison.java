@@ -0,0 +1,191 @@
+package com.SerenityBDD.support;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Compares the expected rows of a data table with the rows of a grid in one pass. Expected rows are hashed by their
+ * join key, either the "row" number or the texts of key columns, and every grid row is probed against that table, so
+ * the comparison is linear in the size of the grid. All missing, extra and changed cells are collected instead of
+ * stopping at the first difference. When grid rows beyond the expected ones are allowed, the grid is read no further
+ * than the row matching the last expected row. Empty cells compare equal to absent ones.
+ */
+public final class GridComparison {
+
+    private static final String ROW = "row";
+
+    private final List<String> keyColumns;
+    private final boolean ordered;
+    private final boolean subset;
+
+    private GridComparison(List<String> keyColumns, boolean ordered, boolean subset) {
+        this.keyColumns = keyColumns;
+        this.ordered = ordered;
+        this.subset = subset;
+    }
+
+    /**
+     * Joins expected rows with grid rows on the "row" column of the data table.
+     *
+     * @param subset Whether grid rows without an expected row are allowed.
+     * @return GridComparison The comparison.
+     */
+    public static GridComparison onRowNumber(boolean subset) {
+        return new GridComparison(Collections.emptyList(), false, subset);
+    }
+
+    /**
+     * Joins expected rows with grid rows on the texts of key columns. Expected rows sharing a key are matched with the
+     * grid rows holding it in order.
+     *
+     * @param keyColumns The headers of the key columns.
+     * @param ordered    Whether matched rows must appear in the grid in the order of the data table.
+     * @param subset     Whether grid rows without an expected row are allowed.
+     * @return GridComparison The comparison.
+     */
+    public static GridComparison onColumns(List<String> keyColumns, boolean ordered, boolean subset) {
+        if (keyColumns.isEmpty()) throw new IllegalArgumentException("No key columns to join the grid rows on.");
+        return new GridComparison(List.copyOf(keyColumns), ordered, subset);
+    }
+
+    /**
+     * Compares the expected rows with the rows of a grid. When grid rows beyond the expected ones are allowed, the
+     * grid is only read until every expected row was matched, e.g. up to the highest expected row number.
+     *
+     * @param expectedRows The expected rows, keyed by column header and, when joining on row numbers, "row".
+     * @param gridRows     The rows of the grid.
+     * @return Diff The differences found.
+     */
+    public Diff compare(List<Map<String, String>> expectedRows, Stream<GridRow> gridRows) {
+        Map<Object, Deque<Integer>> expectedByKey = new HashMap<>();
+        int lastRowNumber = 0;
+        for (int i = 0; i < expectedRows.size(); i++) {
+            Map<String, String> expectedRow = expectedRows.get(i);
+            Object key;
+            if (keyColumns.isEmpty()) {
+                int rowNumber = rowNumberOf(expectedRow);
+                lastRowNumber = Math.max(lastRowNumber, rowNumber);
+                key = rowNumber;
+            } else {
+                key = expectedKeyOf(expectedRow);
+            }
+            expectedByKey.computeIfAbsent(key, k -> new ArrayDeque<>()).add(i);
+        }
+        if (keyColumns.isEmpty() && subset) gridRows = gridRows.limit(lastRowNumber);
+
+        List<CellChange> changes = new ArrayList<>();
+        List<GridRow> extraRows = new ArrayList<>();
+        List<Integer> outOfOrderRows = new ArrayList<>();
+        boolean[] matched = new boolean[expectedRows.size()];
+        int unmatched = expectedRows.size();
+        int lastMatch = -1;
+        Iterator<GridRow> rows = gridRows.iterator();
+        // The remaining rows are only read while an expected row is left or extra rows have to be reported.
+        while ((!subset || unmatched > 0) && rows.hasNext()) {
+            GridRow gridRow = rows.next();
+            Object key = keyColumns.isEmpty() ? gridRow.rowNumber() : gridKeyOf(gridRow);
+            Deque<Integer> candidates = expectedByKey.get(key);
+            Integer expectedIndex = candidates == null ? null : candidates.poll();
+            if (expectedIndex == null) {
+                if (!subset) extraRows.add(gridRow);
+                continue;
+            }
+            matched[expectedIndex] = true;
+            unmatched--;
+            if (ordered && expectedIndex < lastMatch) outOfOrderRows.add(gridRow.rowNumber());
+            lastMatch = Math.max(lastMatch, expectedIndex);
+            expectedRows.get(expectedIndex).forEach((column, expectedValue) -> {
+                if (column.equals(ROW)) return;
+                String actualValue = normalized(gridRow.cell(column));
+                if (!Objects.equals(normalized(expectedValue), actualValue)) {
+                    changes.add(new CellChange(gridRow.rowNumber(), column, normalized(expectedValue), actualValue));
+                }
+            });
+        }
+        List<Map<String, String>> missingRows = new ArrayList<>();
+        for (int i = 0; i < expectedRows.size(); i++) if (!matched[i]) missingRows.add(expectedRows.get(i));
+        return new Diff(missingRows, extraRows, changes, outOfOrderRows);
+    }
+
+    private int rowNumberOf(Map<String, String> expectedRow) {
+        String rowNumber = expectedRow.get(ROW);
+        if (rowNumber == null) throw new RuntimeException("Expected grid row has no \"row\" column: " + expectedRow);
+        return Integer.parseInt(rowNumber.trim());
+    }
+
+    private List<String> expectedKeyOf(Map<String, String> expectedRow) {
+        List<String> key = new ArrayList<>(keyColumns.size());
+        for (String column : keyColumns) key.add(normalized(expectedRow.get(column)));
+        return key;
+    }
+
+    private List<String> gridKeyOf(GridRow gridRow) {
+        List<String> key = new ArrayList<>(keyColumns.size());
+        for (String column : keyColumns) key.add(normalized(gridRow.cell(column)));
+        return key;
+    }
+
+    private static String normalized(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+    /**
+     * A cell whose text differs from the expected one.
+     *
+     * @param rowNumber The one-based row number in the grid.
+     * @param column    The header of the column.
+     * @param expected  The expected text, null for an empty cell.
+     * @param actual    The text in the grid, null for an empty cell.
+     */
+    public record CellChange(int rowNumber, String column, String expected, String actual) {
+    }
+
+    /**
+     * Differences between the expected rows and the grid.
+     *
+     * @param missingRows    Expected rows without a matching grid row.
+     * @param extraRows      Grid rows without a matching expected row, empty when comparing a subset.
+     * @param changes        Cells of matched rows whose text differs.
+     * @param outOfOrderRows Row numbers of matched grid rows appearing before a row expected earlier.
+     */
+    public record Diff(List<Map<String, String>> missingRows, List<GridRow> extraRows, List<CellChange> changes,
+                       List<Integer> outOfOrderRows) {
+
+        /**
+         * Check if the grid holds the expected rows.
+         *
+         * @return True if no difference was found.
+         */
+        public boolean matches() {
+            return missingRows.isEmpty() && extraRows.isEmpty() && changes.isEmpty() && outOfOrderRows.isEmpty();
+        }
+
+        /**
+         * Describes every difference found, one per line.
+         *
+         * @return String The report of the comparison.
+         */
+        public String report() {
+            StringBuilder report = new StringBuilder("Grid comparison: ").append(changes.size())
+                    .append(" changed cell(s), ").append(missingRows.size()).append(" missing row(s), ")
+                    .append(extraRows.size()).append(" extra row(s), ").append(outOfOrderRows.size())
+                    .append(" row(s) out of order.");
+            for (CellChange change : changes) {
+                report.append(System.lineSeparator()).append("Changed: row ").append(change.rowNumber())
+                        .append(", column \"").append(change.column()).append("\": expected \"")
+                        .append(change.expected()).append("\" but was \"").append(change.actual()).append("\"");
+            }
+            for (Map<String, String> missingRow : missingRows) {
+                report.append(System.lineSeparator()).append("Missing: ").append(missingRow);
+            }
+            for (GridRow extraRow : extraRows) {
+                report.append(System.lineSeparator()).append("Extra: row ").append(extraRow.rowNumber())
+                        .append(" ").append(extraRow.cells());
+            }
+            for (Integer rowNumber : outOfOrderRows) {
+                report.append(System.lineSeparator()).append("Out of order: row ").append(rowNumber);
+            }
+            return report.toString();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.SerenityBDD.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests of {@link GridComparison} on rows built in memory, without a browser.
+ */
+class GridComparisonTest {
+
+    private static final List<String> HEADERS = List.of("Name", "City", "");
+
+    @Test
+    void duplicateKeysAreMatchedWithGridRowsInOrder() {
+        List<Map<String, String>> expectedRows = List.of(
+                Map.of("Name", "Ann", "City", "Austin"),
+                Map.of("Name", "Ann", "City", "Boston"),
+                Map.of("Name", "Ann", "City", "Chicago"));
+        GridComparison.Diff diff = GridComparison.onColumns(List.of("Name"), false, false)
+                .compare(expectedRows, rows(row("Ann", "Austin"), row("Ann", "Boston")));
+
+        assertEquals(List.of(Map.of("Name", "Ann", "City", "Chicago")), diff.missingRows());
+        assertTrue(diff.changes().isEmpty());
+        assertTrue(diff.extraRows().isEmpty());
+    }
+
+    @Test
+    void gridRowsWithoutExpectedRowAreExtraUnlessComparingSubset() {
+        List<Map<String, String>> expectedRows = List.of(Map.of("Name", "Ann", "City", "Austin"));
+        List<GridRow> gridRows = renumbered(List.of(row("Ann", "Austin"), row("Bob", "Boston")));
+
+        GridComparison.Diff all = GridComparison.onColumns(List.of("Name"), false, false)
+                .compare(expectedRows, gridRows.stream());
+        GridComparison.Diff subset = GridComparison.onColumns(List.of("Name"), false, true)
+                .compare(expectedRows, gridRows.stream());
+
+        assertEquals(List.of(2), all.extraRows().stream().map(GridRow::rowNumber).toList());
+        assertTrue(subset.matches());
+    }
+
+    @Test
+    void subsetComparisonStopsOnceEveryExpectedRowMatched() {
+        List<GridRow> gridRows = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) gridRows.add(row("Name " + i, "City " + i));
+        List<Map<String, String>> expectedRows = List.of(
+                Map.of("Name", "Name 5", "City", "City 5"),
+                Map.of("Name", "Name 2", "City", "City 2"));
+        AtomicInteger read = new AtomicInteger();
+
+        GridComparison.Diff diff = GridComparison.onColumns(List.of("Name"), false, true)
+                .compare(expectedRows, renumbered(gridRows).stream().peek(row -> read.incrementAndGet()));
+
+        assertTrue(diff.matches());
+        assertEquals(5, read.get());
+    }
+
+    @Test
+    void rowNumberSubsetComparisonStopsAtTheHighestExpectedRow() {
+        List<GridRow> gridRows = new ArrayList<>();
+        for (int i = 1; i <= 100; i++) gridRows.add(row("Name " + i, "City " + i));
+        AtomicInteger read = new AtomicInteger();
+
+        GridComparison.Diff diff = GridComparison.onRowNumber(true).compare(
+                List.of(Map.of("row", "3", "City", "City 3"), Map.of("row", "7", "City", "Elsewhere")),
+                renumbered(gridRows).stream().peek(row -> read.incrementAndGet()));
+
+        assertEquals(List.of(new GridComparison.CellChange(7, "City", "Elsewhere", "City 7")), diff.changes());
+        assertEquals(7, read.get());
+    }
+
+    @Test
+    void rowsMatchedBeforeARowExpectedEarlierAreOutOfOrder() {
+        List<Map<String, String>> expectedRows = List.of(
+                Map.of("Name", "Ann"), Map.of("Name", "Bob"), Map.of("Name", "Cid"));
+
+        GridComparison.Diff ordered = GridComparison.onColumns(List.of("Name"), true, false)
+                .compare(expectedRows, rows(row("Bob", "B"), row("Ann", "A"), row("Cid", "C")));
+        GridComparison.Diff anyOrder = GridComparison.onColumns(List.of("Name"), false, false)
+                .compare(expectedRows, rows(row("Bob", "B"), row("Ann", "A"), row("Cid", "C")));
+
+        assertEquals(List.of(2), ordered.outOfOrderRows());
+        assertTrue(anyOrder.matches());
+    }
+
+    @Test
+    void emptyCellsCompareEqualToAbsentOnes() {
+        GridComparison comparison = GridComparison.onRowNumber(false);
+
+        assertTrue(comparison.compare(List.of(Map.of("row", "1", "City", "")), rows(row("Ann", null))).matches());
+        assertTrue(comparison.compare(List.of(Map.of("row", "1", "City", "")), rows(row("Ann", ""))).matches());
+        assertEquals(List.of(new GridComparison.CellChange(1, "City", "Austin", null)),
+                comparison.compare(List.of(Map.of("row", "1", "City", "Austin")), rows(row("Ann", ""))).changes());
+        assertEquals(List.of(new GridComparison.CellChange(1, "City", null, "Austin")),
+                comparison.compare(List.of(Map.of("row", "1", "City", "")), rows(row("Ann", "Austin"))).changes());
+    }
+
+    @Test
+    void noExpectedRowsReportsEveryGridRowAsExtra() {
+        GridComparison.Diff diff = GridComparison.onRowNumber(false)
+                .compare(List.of(), rows(row("Ann", "Austin"), row("Bob", "Boston")));
+
+        assertEquals(2, diff.extraRows().size());
+        assertTrue(GridComparison.onRowNumber(true).compare(List.of(), rows(row("Ann", "Austin"))).matches());
+    }
+
+    private static GridRow row(String name, String city) {
+        return new GridRow(0, HEADERS, Arrays.asList(name, city, null), null);
+    }
+
+    private static Stream<GridRow> rows(GridRow... rows) {
+        return renumbered(List.of(rows)).stream();
+    }
+
+    private static List<GridRow> renumbered(List<GridRow> rows) {
+        List<GridRow> numbered = new ArrayList<>(rows.size());
+        for (GridRow row : rows) {
+            numbered.add(new GridRow(numbered.size() + 1, row.headers(), row.cells(), row.element()));
+        }
+        return numbered;
+    }
+}
@@ -0,0 +1,69 @@
+package com.SerenityBDD.support;
+
+import java.util.*;
+
+/**
+ * Hash index of the rows of a {@link GridSnapshot} by the cell texts of one or more columns. Each distinct key maps
+ * to the positions of every row holding it, in grid order, so duplicate values are kept and the first match is the
+ * row a linear search would have found. Indexes are built once per snapshot and column set.
+ */
+public final class GridIndex {
+
+    private final List<String> columns;
+    private final Map<List<String>, List<Integer>> rowIndexes;
+
+    private GridIndex(List<String> columns, Map<List<String>, List<Integer>> rowIndexes) {
+        this.columns = columns;
+        this.rowIndexes = rowIndexes;
+    }
+
+    /**
+     * Builds the index of a snapshot on the given columns.
+     *
+     * @param snapshot The snapshot of the grid.
+     * @param columns  The headers of the key columns.
+     * @return GridIndex The index.
+     * @throws RuntimeException If the grid has no such column.
+     */
+    static GridIndex of(GridSnapshot snapshot, List<String> columns) {
+        List<List<String>> keyColumns = new ArrayList<>(columns.size());
+        for (String column : columns) keyColumns.add(snapshot.column(column));
+        Map<List<String>, List<Integer>> rowIndexes = new HashMap<>();
+        for (int row = 0; row < snapshot.rowCount(); row++) {
+            List<String> key = new ArrayList<>(keyColumns.size());
+            for (List<String> keyColumn : keyColumns) key.add(keyColumn.get(row));
+            rowIndexes.computeIfAbsent(key, k -> new ArrayList<>()).add(row);
+        }
+        return new GridIndex(List.copyOf(columns), rowIndexes);
+    }
+
+    /**
+     * Get the headers of the key columns.
+     *
+     * @return List<String> The key columns, in key order.
+     */
+    public List<String> columns() {
+        return columns;
+    }
+
+    /**
+     * Get the positions of the rows holding a key.
+     *
+     * @param values The cell texts of the key columns, in key order.
+     * @return List<Integer> The zero-based positions of the matching rows in grid order, empty if none matched.
+     */
+    public List<Integer> rowIndexesOf(List<String> values) {
+        return rowIndexes.getOrDefault(values, Collections.emptyList());
+    }
+
+    /**
+     * Get the position of the first row holding a key.
+     *
+     * @param values The cell texts of the key columns, in key order.
+     * @return OptionalInt The zero-based position of the first matching row, empty if none matched.
+     */
+    public OptionalInt firstRowIndexOf(List<String> values) {
+        List<Integer> matches = rowIndexesOf(values);
+        return matches.isEmpty() ? OptionalInt.empty() : OptionalInt.of(matches.get(0));
+    }
+}
@@ -0,0 +1,53 @@
+package com.SerenityBDD.support;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.pagefactory.ByChained;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Row locators of a grid, composed from the typed {@link Locator} of its table and kept per table locator for the
+ * rest of the run. Table locators that cannot be composed into a single selector, e.g. link text or chained locators,
+ * get the row located within the table with a {@link ByChained}.
+ */
+public final class GridLocators {
+
+    private static final Map<By, GridLocators> BY_TABLE = new ConcurrentHashMap<>();
+
+    private final By table;
+    private final Optional<Locator> tableLocator;
+    private final Map<Integer, By> rows = new ConcurrentHashMap<>();
+
+    private GridLocators(By table) {
+        this.table = table;
+        this.tableLocator = Locator.of(table);
+    }
+
+    /**
+     * Get the row locators of a grid.
+     *
+     * @param table The locator of the table element.
+     * @return GridLocators The locators of the grid.
+     */
+    public static GridLocators of(By table) {
+        return BY_TABLE.computeIfAbsent(table, GridLocators::new);
+    }
+
+    /**
+     * Get the locator of a body row.
+     *
+     * @param rowNumber The one-based row number.
+     * @return By The locator of the tr element of the row.
+     */
+    public By row(int rowNumber) {
+        return rows.computeIfAbsent(rowNumber, number -> composed(" > tbody > tr:nth-child(" + number + ")",
+                "/tbody/tr[" + number + "]"));
+    }
+
+    private By composed(String cssStep, String xpathStep) {
+        return tableLocator.flatMap(locator -> locator.composedWith(cssStep, xpathStep)).map(Locator::toBy)
+                .orElseGet(() -> new ByChained(table, By.cssSelector(":scope" + cssStep)));
+    }
+}
@@ -1,21 +1,49 @@
 package com.SerenityBDD.support;
 
 import com.SerenityBDD.execute.Perform;
+import com.SerenityBDD.state.WaitMode;
+import net.serenitybdd.core.Serenity;
 import net.thucydides.core.annotations.Steps;
 import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
 import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebElement;
 import org.slf4j.LoggerFactory;
 import org.slf4j.spi.LoggingEventBuilder;
 
 import java.lang.reflect.Field;
+import java.time.Duration;
 import java.util.*;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class GridObjectOperations extends PageObjectOperations {
 
     public final LoggingEventBuilder LOGGER_INFO = LoggerFactory.getLogger(GridObjectOperations.class).atInfo();
 
+    /**
+     * How long a virtualized grid is given to render the rows of a new scroll position.
+     */
+    static final Duration SCROLL_SETTLE_TIMEOUT = Duration.ofSeconds(2);
+
+    private static final By BODY_ROWS = By.cssSelector("tbody tr");
+
+    private static final String SCROLL_TO_TOP_SCRIPT =
+            "var container = arguments[0];                                                         " +
+                    "var before = container.scrollTop;                                              " +
+                    "container.scrollTop = 0;                                                       " +
+                    "return container.scrollTop < before;                                           ";
+
+    private static final String SCROLL_DOWN_SCRIPT =
+            "var container = arguments[0];                                                         " +
+                    "var before = container.scrollTop;                                              " +
+                    "container.scrollTop = before + Math.max(container.clientHeight, 1);            " +
+                    "return container.scrollTop > before;                                           ";
+
     @Steps
     Perform perform;
 
@@ -32,19 +60,18 @@ public class GridObjectOperations extends PageObjectOperations {
      * @return List of table headers as strings.
      */
     public List<String> getAllTableHeaders(By table) {
-        WebElement tableElement = perform.getWebElement(table);
-        return getAllTableHeaders(tableElement);
+        return gridSnapshot(table).allHeaders();
     }
 
     /**
-     * Returns all table headers, including empty headings, for a given table element.
+     * Returns all table headers, including empty headings, for a given table element. The headers are read with one
+     * script execution rather than with one getText per th.
      *
      * @param tableElement The table WebElement.
      * @return List of table headers as strings.
      */
     public List<String> getAllTableHeaders(WebElement tableElement) {
-        return tableElement.findElements(By.tagName("th")).stream().map(WebElement::getText)
-                .toList().stream().map(String::trim).toList();
+        return GridSnapshot.headersOf(getDriver(), tableElement);
     }
 
     /**
@@ -54,7 +81,7 @@ public class GridObjectOperations extends PageObjectOperations {
      * @return List of visible table headers as strings.
      */
     public List<String> getTableHeaders(By table) {
-        return getAllTableHeaders(table).stream().filter(r -> !r.equals("")).toList();
+        return gridSnapshot(table).headers();
     }
 
     /**
@@ -74,8 +101,7 @@ public class GridObjectOperations extends PageObjectOperations {
      * @return The number of rows in the table.
      */
     public int getRowCount(By table) {
-        WebElement tableElement = perform.getWebElement(table);
-        return tableElement.findElements(By.cssSelector("tbody tr")).size();
+        return gridSnapshot(table).rowCount();
     }
 
     /**
@@ -87,16 +113,9 @@ public class GridObjectOperations extends PageObjectOperations {
      */
     public HashMap<String, ArrayList<String>> getRowsDataForColumns(List<String> columns, By table) {
         HashMap<String, ArrayList<String>> rowsForColumnsMap = new HashMap<>();
-        List<String> tableHeaders = getAllTableHeaders(table);
-        WebElement tableElement = perform.getWebElement(table);
+        GridSnapshot snapshot = gridSnapshot(table);
         for (String column : columns) {
-            int colIndex = tableHeaders.indexOf(column);
-            List<WebElement> rowElements = tableElement.findElements(By.cssSelector("tbody tr"));
-            rowsForColumnsMap.put(column, new ArrayList<>(){{
-                for (WebElement rowElement : rowElements) {
-                    add(rowElement.findElement(By.cssSelector("td:nth-child(" + (colIndex + 1) + ")")).getText());
-                }
-            }});
+            rowsForColumnsMap.put(column, new ArrayList<>(snapshot.column(column)));
         }
         return rowsForColumnsMap;
     }
@@ -117,12 +136,11 @@ public class GridObjectOperations extends PageObjectOperations {
             columns.set(0, "row");
         }
         results.put("row", tableRow.get("row"));
+        GridSnapshot snapshot = gridSnapshot(table);
+        int rowNumber = Integer.parseInt(tableRow.get("row")) - 1;
         for (int i = 1; i < columns.size(); i++) {
-            int rowNumber = Integer.parseInt(tableRow.get("row")) - 1;
             LOGGER_INFO.log("Getting Data for: " + columns.get(i));
-            String tdSelector = "td:nth-child(" + (getAllTableHeaders(table).indexOf(columns.get(i)) + 1) + ")";
-            String result = perform.getWebElement(table).findElements(By.cssSelector("tbody tr")).get(rowNumber)
-                    .findElement(By.cssSelector(tdSelector)).getText();
+            String result = snapshot.cell(rowNumber, columns.get(i));
             if (Objects.equals(result, "")) {
                 result = null;
             }
@@ -132,22 +150,212 @@ public class GridObjectOperations extends PageObjectOperations {
     }
 
     /**
-     * Get the locator for a focused row in a grid for a specified row number and grid class name.
+     * Get the snapshot of a grid, reading it with a single script execution unless the snapshot taken earlier in the
+     * scenario is still current. A grid without body rows is given until the wait timeout to load them, as rows are
+     * often rendered after the table itself; a grid still empty then is read as it is.
+     *
+     * @param table The locator for the table element.
+     * @return GridSnapshot The headers, cell texts and rows of the grid.
+     */
+    public GridSnapshot gridSnapshot(By table) {
+        GridSnapshot previous = ScenarioContext.current().gridSnapshots().get(table);
+        GridSnapshot snapshot = currentSnapshot(table);
+        // A snapshot reused from earlier is already known to be empty under the unchanged DOM.
+        if (snapshot.rowCount() > 0 || snapshot == previous || !awaitingRows(table)) return snapshot;
+        ScenarioContext.current().elementCache().revalidate();
+        return currentSnapshot(table);
+    }
+
+    private boolean awaitingRows(By table) {
+        ElementCache elementCache = ScenarioContext.current().elementCache();
+        try {
+            WaitMode.explicitlyWaitingFor(this, driver -> elementCache.readingFrom(driver, table,
+                    tableElement -> tableElement.findElements(BODY_ROWS).isEmpty() ? null : true));
+            return true;
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    private GridSnapshot currentSnapshot(By table) {
+        ScenarioContext context = ScenarioContext.current();
+        ElementCache elementCache = context.elementCache();
+        String generation = elementCache.contentGeneration(getDriver());
+        GridSnapshot snapshot = context.gridSnapshots().get(table);
+        if (snapshot != null && generation != null && generation.equals(snapshot.generation())) return snapshot;
+        snapshot = elementCache.readingFrom(getDriver(), table,
+                tableElement -> GridSnapshot.capture(getDriver(), tableElement, generation));
+        context.gridSnapshots().put(table, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * Get the row element of the first row whose cells hold the given values, looked up through the hash index of
+     * the grid snapshot.
+     *
+     * @param columnValues The expected cell text of each key column.
+     * @param table        The locator for the table element.
+     * @return WebElement The tr element of the first matching row.
+     * @throws RuntimeException If no row matches.
+     */
+    public WebElement getRowWebElement(Map<String, String> columnValues, By table) {
+        GridSnapshot snapshot = gridSnapshot(table);
+        List<String> columns = new ArrayList<>(columnValues.keySet());
+        List<String> values = new ArrayList<>(columns.size());
+        for (String column : columns) values.add(columnValues.get(column));
+        int rowIndex = snapshot.indexOn(columns).firstRowIndexOf(values)
+                .orElseThrow(() -> new RuntimeException("Unable to find row in the grid table."));
+        return snapshot.row(rowIndex);
+    }
+
+    /**
+     * Get the row element of the first row whose cells hold the given values. Paginated and virtualized grids are
+     * streamed through until the row is found and left on the page or scroll window showing it, other grids are
+     * looked up through the hash index of their snapshot.
+     *
+     * @param columnValues The expected cell text of each key column.
+     * @param grid         The focused grid.
+     * @return WebElement The tr element of the first matching row.
+     * @throws RuntimeException If no row matches.
+     */
+    public WebElement getRowWebElement(Map<String, String> columnValues, FocusedPage grid) {
+        if (!isWindowed(grid)) return getRowWebElement(columnValues, grid.locator("GRID_LOADED"));
+        return streamingRows(grid).filter(row -> row.matches(columnValues)).findFirst().map(GridRow::element)
+                .orElseThrow(() -> new RuntimeException("Unable to find row in the grid table."));
+    }
+
+    /**
+     * Counts the rows of a grid across all its pages or scroll windows, stopping once the limit is reached.
+     *
+     * @param grid  The focused grid.
+     * @param limit The number of rows after which counting stops.
+     * @return long The number of rows, at most the limit.
+     */
+    public long countingRows(FocusedPage grid, long limit) {
+        try (Stream<GridRow> rows = streamingRows(grid)) {
+            return rows.limit(limit).count();
+        }
+    }
+
+    /**
+     * Compares the expected rows with the rows of a grid, streaming through its pages or scroll windows, and attaches
+     * the report of the differences to the Serenity report.
+     *
+     * @param expectedRows The expected rows, keyed by column header and, when joining on row numbers, "row".
+     * @param grid         The focused grid.
+     * @param comparison   How expected and grid rows are joined.
+     * @return GridComparison.Diff The differences found.
+     */
+    public GridComparison.Diff comparingGrid(List<Map<String, String>> expectedRows, FocusedPage grid,
+                                             GridComparison comparison) {
+        GridComparison.Diff diff;
+        try (Stream<GridRow> rows = streamingRows(grid)) {
+            diff = comparison.compare(expectedRows, rows);
+        }
+        LOGGER_INFO.log(diff.report());
+        Serenity.recordReportData().withTitle("Grid comparison").andContents(diff.report());
+        return diff;
+    }
+
+    /**
+     * Streams the rows of a grid. A grid declaring GRID_NEXT_PAGE and GRID_PREVIOUS_PAGE elements is turned back to
+     * its first page and walked page by page, and closing the stream turns it back to the page it was on. A grid
+     * declaring a GRID_SCROLL_CONTAINER element is scrolled to the top and walked one scroll window at a time, and
+     * any other grid yields the rows currently rendered. The grid only moves on once the rows read so far were
+     * consumed, so short-circuiting operations such as findFirst or limit stop it early.
+     *
+     * @param grid The focused grid.
+     * @return Stream<GridRow> The rows of the grid, in grid order.
+     * @throws RuntimeException If the grid declares only one of GRID_NEXT_PAGE and GRID_PREVIOUS_PAGE.
+     */
+    public Stream<GridRow> streamingRows(FocusedPage grid) {
+        By table = grid.locator("GRID_LOADED");
+        Supplier<GridSnapshot> capture = () -> gridSnapshot(table);
+        Optional<By> nextPage = grid.optionalLocator("GRID_NEXT_PAGE");
+        Optional<By> previousPage = grid.optionalLocator("GRID_PREVIOUS_PAGE");
+        if (nextPage.isPresent() != previousPage.isPresent()) {
+            throw new RuntimeException("A paginated grid needs both GRID_NEXT_PAGE and GRID_PREVIOUS_PAGE elements.");
+        }
+        if (nextPage.isPresent()) {
+            int startPage = 0;
+            while (turningPage(table, previousPage.get())) startPage++;
+            int[] page = {0};
+            BooleanSupplier nextPageTurn = () -> {
+                boolean turned = turningPage(table, nextPage.get());
+                if (turned) page[0]++;
+                return turned;
+            };
+            int returnPage = startPage;
+            return StreamSupport.stream(new GridRowSpliterator(capture, nextPageTurn, false), false)
+                    .onClose(() -> {
+                        while (page[0] > returnPage && turningPage(table, previousPage.get())) page[0]--;
+                        while (page[0] < returnPage && turningPage(table, nextPage.get())) page[0]++;
+                    });
+        }
+        Optional<By> scrollContainer = grid.optionalLocator("GRID_SCROLL_CONTAINER");
+        if (scrollContainer.isPresent()) {
+            scrolling(table, scrollContainer.get(), SCROLL_TO_TOP_SCRIPT);
+            return StreamSupport.stream(new GridRowSpliterator(capture,
+                    () -> scrolling(table, scrollContainer.get(), SCROLL_DOWN_SCRIPT), true), false);
+        }
+        return StreamSupport.stream(new GridRowSpliterator(capture, () -> false, false), false);
+    }
+
+    private boolean isWindowed(FocusedPage grid) {
+        return grid.optionalLocator("GRID_NEXT_PAGE").isPresent()
+                || grid.optionalLocator("GRID_PREVIOUS_PAGE").isPresent()
+                || grid.optionalLocator("GRID_SCROLL_CONTAINER").isPresent();
+    }
+
+    private boolean turningPage(By table, By pageTurn) {
+        GridSnapshot previous = gridSnapshot(table);
+        List<WebElement> pageTurnElements = WaitMode.withoutImplicitWait(this,
+                () -> getDriver().findElements(pageTurn));
+        if (pageTurnElements.isEmpty()) return false;
+        WebElement pageTurnElement = pageTurnElements.get(0);
+        if (!pageTurnElement.isDisplayed() || !pageTurnElement.isEnabled()
+                || "true".equals(pageTurnElement.getDomAttribute("aria-disabled"))) return false;
+        perform.clickOn(pageTurnElement);
+        try {
+            WaitMode.explicitlyWaitingFor(this, driver -> changedSnapshot(table, previous));
+        } catch (TimeoutException e) {
+            throw new RuntimeException("The grid did not move to another page.");
+        }
+        return true;
+    }
+
+    private boolean scrolling(By table, By scrollContainer, String scrollScript) {
+        GridSnapshot previous = gridSnapshot(table);
+        Object scrolled = ScenarioContext.current().elementCache().readingFrom(getDriver(), scrollContainer,
+                container -> ((JavascriptExecutor) getDriver()).executeScript(scrollScript, container));
+        if (!Boolean.TRUE.equals(scrolled)) return false;
+        try {
+            WaitMode.withoutImplicitWait(this, () -> waitForCondition().withTimeout(SCROLL_SETTLE_TIMEOUT)
+                    .until(driver -> changedSnapshot(table, previous)));
+        } catch (TimeoutException e) {
+            LOGGER_INFO.log("Grid rows unchanged after scrolling, reading the next scroll window.");
+        }
+        return true;
+    }
+
+    private GridSnapshot changedSnapshot(By table, GridSnapshot previous) {
+        ScenarioContext.current().elementCache().revalidate();
+        GridSnapshot current = currentSnapshot(table);
+        return current.sameRowsAs(previous) ? null : current;
+    }
+
+    /**
+     * Get the locator for a focused row in a grid for a specified row number and grid class name. The locator is
+     * composed from the typed locator of the grid table and cached, see {@link GridLocators}.
      *
      * @param rowNumber     The row number to focus on.
      * @param gridClassName The class name of the grid.
-     * @return HashMap containing the selector style and locator.
+     * @return By The locator of the row.
      */
-    public HashMap<String, String> getRowFocusedLocator(int rowNumber, String gridClassName) {
+    public By getRowFocusedLocator(int rowNumber, String gridClassName) {
         Field elementLoaded = pageObjectOperations.poeFieldClass("GRID_LOADED", gridClassName);
         Class<?> gridClass = pageObjectOperations.getPageClass(gridClassName);
-        By field = perform.fieldToInteract(elementLoaded, gridClass);
-        WebElement table = perform.getWebElement(elementLoaded, gridClass);
-        if (field.toString().toLowerCase().contains("xpath")) {
-            return constructFieldSelector("table", field, "/tbody/tr[" + rowNumber + "]");
-        } else {
-            return constructFieldSelector("table", field, ">tbody tr:nth-child(" + rowNumber + ")");
-        }
+        return GridLocators.of(perform.fieldToInteract(elementLoaded, gridClass)).row(rowNumber);
     }
 
     /**
@@ -158,36 +366,24 @@ public class GridObjectOperations extends PageObjectOperations {
      * @return WebElement representing the focused row.
      */
     public WebElement getRowFocusedWebElement(int rowNumber, String gridPage) {
-        HashMap<String, String> rowElementMap = getRowFocusedLocator(rowNumber, gridPage);
-        String selectorStyle = rowElementMap.keySet().stream().toList().get(0);
-        String locator = rowElementMap.values().stream().toList().get(0);
-        return perform.getWebElement(selectorStyle, locator);
-    }
-
-    /**
-     * Construct a field selector for a given main tag, field, and additional selector.
-     *
-     * @param mainTag            The main HTML tag for the field.
-     * @param field              The field locator.
-     * @param additionalSelector Additional selector (if any).
-     * @return HashMap containing the selector style and locator.
-     */
-    public HashMap<String, String> constructFieldSelector(String mainTag, By field, String... additionalSelector) {
-        String[] splitString = field.toString().split(":");
-        HashMap<String, String> selector = new HashMap<>();
-        String constructedSelector = switch(splitString[0]) {
-            case "By.id" -> "[id*=\"";
-            case "By.name" -> "[name*=\"";
-            case "By.className" -> "[class*=\"";
-            case "By.cssSelector", "By.xpath" -> splitString[1];
-            default -> throw new IllegalArgumentException("Invalid Argument");
-        };
-        if (splitString[0].equals("By.xpath") || splitString[0].equals("By.cssSelector")) {
-            selector.put(splitString[0], splitString[1] + additionalSelector[0]);
-        } else {
-            selector.put("By.cssSelector", mainTag + constructedSelector + splitString[1].trim() + "\"]"
-                    + additionalSelector[0]);
+        return perform.getWebElement(getRowFocusedLocator(rowNumber, gridPage));
+    }
+
+    /**
+     * Get the WebElement for a focused row in the focused grid for a specified row number. Rows are numbered across
+     * all pages or scroll windows of the grid, as in the grid value checks, and a paginated or virtualized grid is
+     * left on the page or scroll window showing the row.
+     *
+     * @param rowNumber The one-based row number to focus on.
+     * @param grid      The focused grid.
+     * @return WebElement representing the focused row.
+     * @throws RuntimeException If the grid has fewer rows.
+     */
+    public WebElement getRowFocusedWebElement(int rowNumber, FocusedPage grid) {
+        if (!isWindowed(grid)) {
+            return perform.getWebElement(GridLocators.of(grid.locator("GRID_LOADED")).row(rowNumber));
         }
-        return selector;
+        return streamingRows(grid).skip(rowNumber - 1L).findFirst().map(GridRow::element)
+                .orElseThrow(() -> new RuntimeException("Unable to find row " + rowNumber + " in the grid table."));
     }
 }
@@ -0,0 +1,44 @@
+package com.SerenityBDD.support;
+
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A row of a grid as read while streaming through it.
+ *
+ * @param rowNumber The one-based position of the row across all pages or scroll windows read so far.
+ * @param headers   All headers of the grid, including empty headings.
+ * @param cells     The cell text of each column, in header order, null where the row has no cell for the column.
+ * @param element   The tr element of the row, valid while its page or scroll window is rendered.
+ */
+public record GridRow(int rowNumber, List<String> headers, List<String> cells, WebElement element) {
+
+    /**
+     * Get the text of a cell.
+     *
+     * @param header The header of the column.
+     * @return String The cell text, null where the row has no cell for the column.
+     * @throws RuntimeException If the grid has no such column.
+     */
+    public String cell(String header) {
+        int column = headers.indexOf(header);
+        if (column < 0) throw new RuntimeException("Unable to find column: " + header + " in the grid.");
+        return cells.get(column);
+    }
+
+    /**
+     * Check if the cells of the row hold the given values.
+     *
+     * @param columnValues The expected cell text of each column.
+     * @return True if every column holds its expected text.
+     */
+    public boolean matches(Map<String, String> columnValues) {
+        for (Map.Entry<String, String> columnValue : columnValues.entrySet()) {
+            if (!Objects.equals(cell(columnValue.getKey()), columnValue.getValue())) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,103 @@
+package com.SerenityBDD.support;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Walks the rows of a grid one rendered window at a time: a page of a paginated grid or the rows a virtualized grid
+ * renders at its scroll position. The next window is only read once every row of the current one was consumed, so
+ * a stream that short-circuits never moves the grid further than needed, and only one window is held in memory.
+ * Rows of a scroll window that were already part of the previous window are skipped: rows carrying a row index are
+ * skipped if the previous window held the same index, and other rows only where the leading rows of the window
+ * repeat the trailing rows of the previous one, so identical rows elsewhere in the grid are all kept.
+ */
+final class GridRowSpliterator implements Spliterator<GridRow> {
+
+    private final Supplier<GridSnapshot> capture;
+    private final BooleanSupplier advance;
+    private final boolean deduplicating;
+    private GridSnapshot previousWindow;
+    private GridSnapshot window;
+    private int position;
+    private int rowNumber;
+    private Set<String> previousKeys = Set.of();
+
+    /**
+     * Constructor for a spliterator over the windows of a grid.
+     *
+     * @param capture       Reads the window currently rendered.
+     * @param advance       Moves the grid to its next window, returning false once there is none.
+     * @param deduplicating Whether rows repeated from the previous window are skipped, for scroll windows.
+     */
+    GridRowSpliterator(Supplier<GridSnapshot> capture, BooleanSupplier advance, boolean deduplicating) {
+        this.capture = capture;
+        this.advance = advance;
+        this.deduplicating = deduplicating;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super GridRow> action) {
+        while (true) {
+            if (window == null) {
+                window = capture.get();
+                position = previousWindow == null ? 0 : overlapOf(previousWindow, window);
+            }
+            while (position < window.rowCount()) {
+                int rowIndex = position++;
+                String rowKey = window.rowKey(rowIndex);
+                if (deduplicating && rowKey != null && previousKeys.contains(rowKey)) continue;
+                action.accept(new GridRow(++rowNumber, window.allHeaders(), window.cells(rowIndex),
+                        window.row(rowIndex)));
+                return true;
+            }
+            if (!advance.getAsBoolean()) return false;
+            if (deduplicating) {
+                previousWindow = window;
+                previousKeys = new HashSet<>();
+                for (int rowIndex = 0; rowIndex < window.rowCount(); rowIndex++) {
+                    String rowKey = window.rowKey(rowIndex);
+                    if (rowKey != null) previousKeys.add(rowKey);
+                }
+            }
+            window = null;
+        }
+    }
+
+    /**
+     * Get the number of leading rows without a row index of a window that repeat the trailing rows of the previous
+     * window, the longest such overlap.
+     */
+    private static int overlapOf(GridSnapshot previous, GridSnapshot current) {
+        int overlap = Math.min(previous.rowCount(), current.rowCount());
+        while (overlap > 0 && !repeating(previous, current, overlap)) overlap--;
+        return overlap;
+    }
+
+    private static boolean repeating(GridSnapshot previous, GridSnapshot current, int overlap) {
+        int offset = previous.rowCount() - overlap;
+        for (int rowIndex = 0; rowIndex < overlap; rowIndex++) {
+            if (current.rowKey(rowIndex) != null
+                    || !current.cells(rowIndex).equals(previous.cells(offset + rowIndex))) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public Spliterator<GridRow> trySplit() {
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+}
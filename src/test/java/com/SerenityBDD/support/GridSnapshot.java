@@ -0,0 +1,231 @@
+package com.SerenityBDD.support;
+
+import com.SerenityBDD.execute.ElementProbe;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.*;
+
+/**
+ * Headers and cell texts of a grid, read with a single script execution and kept column by column. Headers are the
+ * texts of every th in the table, and the cell of a column in a row is its td:nth-child at the position of the
+ * header, as with the per-cell lookups it replaces. The row elements are returned by the same script, so acting on a
+ * row found in the snapshot costs no further lookup. Rows are looked up by value through a {@link GridIndex} built
+ * once per snapshot and set of key columns.
+ */
+public final class GridSnapshot {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private static final String SNAPSHOT_SCRIPT = ElementProbe.withTextOf(
+            "var table = arguments[0];                                                              " +
+                    "var headers = Array.prototype.map.call(table.getElementsByTagName('th'), textOf);" +
+                    "var rows = Array.prototype.slice.call(table.querySelectorAll('tbody tr'));     " +
+                    "var cells = rows.map(function (row) {                                          " +
+                    "  return headers.map(function (header, index) {                                " +
+                    "    var cell = row.querySelector('td:nth-child(' + (index + 1) + ')');          " +
+                    "    return cell ? textOf(cell) : null;                                         " +
+                    "  });                                                                          " +
+                    "});                                                                            " +
+                    "var keys = rows.map(function (row) {                                           " +
+                    "  return row.getAttribute('aria-rowindex') || row.getAttribute('data-row-index');" +
+                    "});                                                                            " +
+                    "return [JSON.stringify({headers: headers, cells: cells, keys: keys}), rows];   ");
+
+    private static final String HEADERS_SCRIPT = ElementProbe.withTextOf(
+            "return Array.prototype.map.call(arguments[0].getElementsByTagName('th'), textOf);     ");
+
+    private final List<String> headers;
+    private final List<List<String>> columns;
+    private final List<WebElement> rows;
+    private final List<String> keys;
+    private final String generation;
+    private final Map<List<String>, GridIndex> indexes = new HashMap<>();
+
+    private GridSnapshot(List<String> headers, List<List<String>> columns, List<WebElement> rows, List<String> keys,
+                         String generation) {
+        this.headers = headers;
+        this.columns = columns;
+        this.rows = rows;
+        this.keys = keys;
+        this.generation = generation;
+    }
+
+    /**
+     * Reads the headers, cell texts and rows of a table with one script execution.
+     *
+     * @param driver     The driver to execute the script with.
+     * @param table      The table element.
+     * @param generation The DOM content generation the table is read under, see
+     *                   {@link ElementCache#contentGeneration(WebDriver)}.
+     * @return GridSnapshot The snapshot of the table.
+     * @throws RuntimeException If the script result cannot be read.
+     */
+    public static GridSnapshot capture(WebDriver driver, WebElement table, String generation) {
+        List<?> result = (List<?>) ((JavascriptExecutor) driver).executeScript(SNAPSHOT_SCRIPT, table);
+        Content content;
+        try {
+            content = MAPPER.readValue((String) result.get(0), Content.class);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to read the grid snapshot. " + e.getMessage());
+        }
+        List<List<String>> columns = new ArrayList<>(content.headers().size());
+        for (int column = 0; column < content.headers().size(); column++) {
+            List<String> cells = new ArrayList<>(content.cells().size());
+            for (List<String> row : content.cells()) cells.add(row.get(column));
+            columns.add(Collections.unmodifiableList(cells));
+        }
+        List<WebElement> rows = new ArrayList<>(content.cells().size());
+        for (Object row : (List<?>) result.get(1)) rows.add((WebElement) row);
+        return new GridSnapshot(List.copyOf(content.headers()), columns, Collections.unmodifiableList(rows),
+                Collections.unmodifiableList(new ArrayList<>(content.keys())), generation);
+    }
+
+    /**
+     * Reads only the headers of a table with one script execution, the same texts {@link #allHeaders()} holds.
+     *
+     * @param driver The driver to execute the script with.
+     * @param table  The table element.
+     * @return List<String> The trimmed header texts, including empty headings.
+     */
+    public static List<String> headersOf(WebDriver driver, WebElement table) {
+        List<String> headers = new ArrayList<>();
+        for (Object header : (List<?>) ((JavascriptExecutor) driver).executeScript(HEADERS_SCRIPT, table)) {
+            headers.add((String) header);
+        }
+        return headers;
+    }
+
+    /**
+     * Get the DOM content generation the snapshot was read under.
+     *
+     * @return String The content generation, null if it could not be tracked.
+     */
+    public String generation() {
+        return generation;
+    }
+
+    /**
+     * Get all headers of the grid, including empty headings.
+     *
+     * @return List<String> The trimmed header texts.
+     */
+    public List<String> allHeaders() {
+        return headers;
+    }
+
+    /**
+     * Get the non-empty headers of the grid.
+     *
+     * @return List<String> The trimmed header texts.
+     */
+    public List<String> headers() {
+        return headers.stream().filter(header -> !header.equals("")).toList();
+    }
+
+    /**
+     * Get the number of body rows of the grid.
+     *
+     * @return int The number of rows.
+     */
+    public int rowCount() {
+        return rows.size();
+    }
+
+    /**
+     * Get the cell texts of a column.
+     *
+     * @param header The header of the column.
+     * @return List<String> The cell text of each row, null where the row has no cell for the column.
+     * @throws RuntimeException If the grid has no such column.
+     */
+    public List<String> column(String header) {
+        int column = headers.indexOf(header);
+        if (column < 0) throw new RuntimeException("Unable to find column: " + header + " in the grid.");
+        return columns.get(column);
+    }
+
+    /**
+     * Get the text of a cell.
+     *
+     * @param rowIndex The zero-based index of the row.
+     * @param header   The header of the column.
+     * @return String The cell text, null where the row has no cell for the column.
+     */
+    public String cell(int rowIndex, String header) {
+        return column(header).get(rowIndex);
+    }
+
+    /**
+     * Get the cell texts of a row.
+     *
+     * @param rowIndex The zero-based index of the row.
+     * @return List<String> The cell text of each column, in header order.
+     */
+    public List<String> cells(int rowIndex) {
+        List<String> cells = new ArrayList<>(columns.size());
+        for (List<String> column : columns) cells.add(column.get(rowIndex));
+        return cells;
+    }
+
+    /**
+     * Get the identity of a row: its aria-rowindex or data-row-index attribute. Virtualized grids re-render rows as
+     * they scroll, and the identity tells a re-rendered row from a new one.
+     *
+     * @param rowIndex The zero-based index of the row.
+     * @return String The identity of the row, null if it has neither attribute.
+     */
+    public String rowKey(int rowIndex) {
+        return keys.get(rowIndex);
+    }
+
+    /**
+     * Check if another snapshot holds the same rows with the same cell texts, e.g. to tell whether a grid moved to its
+     * next page.
+     *
+     * @param other The other snapshot.
+     * @return True if both snapshots hold the same rows.
+     */
+    public boolean sameRowsAs(GridSnapshot other) {
+        return keys.equals(other.keys) && columns.equals(other.columns);
+    }
+
+    /**
+     * Get the element of a row.
+     *
+     * @param rowIndex The zero-based index of the row.
+     * @return WebElement The tr element of the row.
+     */
+    public WebElement row(int rowIndex) {
+        return rows.get(rowIndex);
+    }
+
+    /**
+     * Get the index of the rows by the cell texts of the given columns, building it on first use.
+     *
+     * @param columns The headers of the key columns.
+     * @return GridIndex The index of the rows.
+     * @throws RuntimeException If the grid has no such column.
+     */
+    public GridIndex indexOn(List<String> columns) {
+        GridIndex index = indexes.get(columns);
+        if (index == null) {
+            index = GridIndex.of(this, columns);
+            indexes.put(index.columns(), index);
+        }
+        return index;
+    }
+
+    /**
+     * Shape of the JSON the snapshot script returns.
+     *
+     * @param headers The header texts.
+     * @param cells   The cell texts, row by row.
+     * @param keys    The aria-rowindex or data-row-index of each row, null where it has neither.
+     */
+    record Content(List<String> headers, List<List<String>> cells, List<String> keys) {
+    }
+}
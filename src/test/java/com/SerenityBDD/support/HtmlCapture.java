@@ -0,0 +1,140 @@
+package com.SerenityBDD.support;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.jsoup.select.Selector;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * The markup of a container, e.g. a grid, section or dialog, fetched with a single script execution and parsed with
+ * jsoup, so text, attribute and structure queries are answered in-process instead of with WebDriver round trips.
+ * Queries see the markup only: text hidden with CSS is included, and values typed into inputs are not, so a capture
+ * is meant for read-only checks of rendered content.
+ */
+public final class HtmlCapture {
+
+    private static final String OUTER_HTML_SCRIPT = "return arguments[0].outerHTML;";
+    private static final Pattern PAGE_DEPENDENT_CSS =
+            Pattern.compile(":(nth-|first|last|only-|root|eq\\(|lt\\(|gt\\()|(^|[\\s>+~,(])(html|body)(?![\\w-])");
+    private static final Pattern PAGE_DEPENDENT_XPATH = Pattern.compile(
+            "^\\s*(\\(|/(?!/))|\\[\\s*\\d|last\\(\\)|position\\(\\)|\\.\\.|ancestor|parent::|preceding::|following::"
+                    + "|/(html|body)\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Document document;
+    private final String generation;
+
+    private HtmlCapture(Document document, String generation) {
+        this.document = document;
+        this.generation = generation;
+    }
+
+    /**
+     * Fetches and parses the markup of a container.
+     *
+     * @param driver     The driver to execute the script with.
+     * @param container  The container element.
+     * @param generation The DOM content generation the container is read under, see
+     *                   {@link ElementCache#contentGeneration(WebDriver)}.
+     * @return HtmlCapture The capture of the container.
+     */
+    public static HtmlCapture of(WebDriver driver, WebElement container, String generation) {
+        String html = (String) ((JavascriptExecutor) driver).executeScript(OUTER_HTML_SCRIPT, container);
+        return new HtmlCapture(Jsoup.parseBodyFragment(html == null ? "" : html), generation);
+    }
+
+    /**
+     * Get the DOM content generation the capture was read under.
+     *
+     * @return String The content generation, null if it could not be tracked.
+     */
+    public String generation() {
+        return generation;
+    }
+
+    /**
+     * Finds every element of the container matching a locator.
+     *
+     * @param locator The locator of the elements.
+     * @return Optional<List<Element>> The matching elements in document order, empty if the locator cannot be
+     * evaluated against the markup, e.g. a CSS pseudo-class jsoup does not support.
+     */
+    public Optional<List<Element>> findAll(Locator locator) {
+        try {
+            Elements elements = switch (locator.strategy()) {
+                case "css selector" -> document.body().select(locator.expression());
+                case "xpath" -> document.selectXpath(locator.expression());
+                case "tag name" -> document.body().getElementsByTag(locator.expression());
+                case "link text" -> linksMatching(locator.expression(), false);
+                case "partial link text" -> linksMatching(locator.expression(), true);
+                default -> null;
+            };
+            return Optional.ofNullable(elements);
+        } catch (Selector.SelectorParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Finds the element of the container matching a locator, only when the capture is sure to find the element the
+     * browser finds. The locator must be a CSS selector or XPath expression that means the same in the container
+     * as in the page: no positional selectors or predicates, e.g. ":nth-child(2)", "(//td)[3]" or "last()", no
+     * absolute paths, e.g. "/html/body/div[2]//span", and no steps out of the container. It must also match exactly
+     * one element of the container.
+     *
+     * @param locator The locator of the element.
+     * @return Optional<Element> The single matching element, empty if the locator is not safe to evaluate against the
+     * markup or did not match exactly once.
+     */
+    public Optional<Element> findOnly(Locator locator) {
+        boolean containerRelative = switch (locator.strategy()) {
+            case "css selector" -> !PAGE_DEPENDENT_CSS.matcher(locator.expression()).find();
+            case "xpath" -> !PAGE_DEPENDENT_XPATH.matcher(locator.expression()).find();
+            default -> false;
+        };
+        if (!containerRelative) return Optional.empty();
+        return findAll(locator).filter(elements -> elements.size() == 1).map(elements -> elements.get(0));
+    }
+
+    /**
+     * Get the text of an element as a label reads it: the value attribute, or the whitespace-normalized text of
+     * elements without one.
+     *
+     * @param element The element.
+     * @return String The label text.
+     */
+    public static String labelOf(Element element) {
+        return element.hasAttr("value") ? element.attr("value") : element.text();
+    }
+
+    /**
+     * Get the text of a browser element the way {@link #labelOf(Element)} reads a captured one, including text hidden
+     * with CSS, so values read from the capture and from the browser mean the same.
+     *
+     * @param element The browser element.
+     * @return String The label text.
+     */
+    public static String labelOf(WebElement element) {
+        String value = element.getDomAttribute("value");
+        if (value != null) return value;
+        String text = element.getDomProperty("textContent");
+        return text == null ? "" : WHITESPACE.matcher(text).replaceAll(" ").strip();
+    }
+
+    private Elements linksMatching(String linkText, boolean partial) {
+        Elements links = new Elements();
+        for (Element link : document.body().getElementsByTag("a")) {
+            String text = link.text();
+            if (partial ? text.contains(linkText) : text.equals(linkText)) links.add(link);
+        }
+        return links;
+    }
+}
@@ -0,0 +1,74 @@
+package com.SerenityBDD.support;
+
+import org.openqa.selenium.By;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A By locator reduced to the strategy and expression it is sent to the browser with, e.g. ("css selector",
+ * "#username") or ("xpath", "//table"). By.id, By.name and By.className are sent as css selectors.
+ *
+ * @param strategy   The W3C location strategy.
+ * @param expression The selector or expression for the strategy.
+ */
+public record Locator(String strategy, String expression) {
+
+    /**
+     * Reduces a By locator to its strategy and expression.
+     *
+     * @param by The By locator.
+     * @return Optional<Locator> The locator, empty for By locators that are not sent to the browser as one strategy,
+     * such as chained locators.
+     */
+    public static Optional<Locator> of(By by) {
+        if (!(by instanceof By.Remotable remotable)) return Optional.empty();
+        By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+        return Optional.of(new Locator(parameters.using(), String.valueOf(parameters.value())));
+    }
+
+    /**
+     * Composes a locator for elements below the elements of this locator, without parsing By.toString(). CSS
+     * selectors get the CSS step appended, wrapped in :is() when they are selector lists, tag names are turned into
+     * CSS selectors first, and XPath expressions get the XPath step appended to the parenthesized expression.
+     *
+     * @param cssStep   The CSS combinator and selector of the descendants, e.g. " > tbody > tr:nth-child(2)".
+     * @param xpathStep The XPath location path of the descendants, e.g. "/tbody/tr[2]".
+     * @return Optional<Locator> The composed locator, empty for strategies that cannot be composed, e.g. link text.
+     */
+    public Optional<Locator> composedWith(String cssStep, String xpathStep) {
+        return switch (strategy) {
+            case "css selector" -> Optional.of(new Locator(strategy,
+                    (expression.contains(",") ? ":is(" + expression + ")" : expression) + cssStep));
+            case "tag name" -> Optional.of(new Locator("css selector", expression + cssStep));
+            case "xpath" -> Optional.of(new Locator(strategy, "(" + expression + ")" + xpathStep));
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * Get the By locator finding the elements of this locator.
+     *
+     * @return By The By locator.
+     * @throws IllegalArgumentException If the strategy is not a W3C location strategy.
+     */
+    public By toBy() {
+        return switch (strategy) {
+            case "css selector" -> By.cssSelector(expression);
+            case "xpath" -> By.xpath(expression);
+            case "tag name" -> By.tagName(expression);
+            case "link text" -> By.linkText(expression);
+            case "partial link text" -> By.partialLinkText(expression);
+            default -> throw new IllegalArgumentException("Unsupported location strategy: " + strategy);
+        };
+    }
+
+    /**
+     * Get the locator as a script argument, i.e. the list [strategy, expression].
+     *
+     * @return List<String> The strategy followed by the expression.
+     */
+    public List<String> asScriptArgument() {
+        return List.of(strategy, expression);
+    }
+}
@@ -0,0 +1,48 @@
+package com.SerenityBDD.support;
+
+import org.openqa.selenium.By;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the By locator held by each page object field. Page object locators are static final, so the value read
+ * the first time a field is resolved stays valid for the rest of the run.
+ */
+public final class LocatorCache {
+
+    private static final Map<Field, By> LOCATORS = new ConcurrentHashMap<>();
+
+    private LocatorCache() {
+    }
+
+    /**
+     * Retrieves the By locator held by a page object field, resolving it only on first use.
+     *
+     * @param field     The field holding the locator.
+     * @param pageClass The page class containing the field.
+     * @return By The By locator held by the field.
+     * @throws RuntimeException If the field cannot be accessed.
+     */
+    public static By locatorOf(Field field, Class<?> pageClass) {
+        if (!Modifier.isStatic(field.getModifiers())) return read(field, pageClass);
+        By locator = LOCATORS.get(field);
+        return locator != null ? locator : LOCATORS.computeIfAbsent(field, key -> resolve(key, pageClass));
+    }
+
+    private static By resolve(Field field, Class<?> pageClass) {
+        Optional<By> indexedLocator = PageObjectRegistry.getInstance().locator(field);
+        return indexedLocator.orElseGet(() -> read(field, pageClass));
+    }
+
+    private static By read(Field field, Class<?> pageClass) {
+        try {
+            return (By) field.get(pageClass);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.SerenityBDD.support;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Single-pass normalizers for the field and page names used in feature files. Feature files reuse a small
+ * vocabulary of names, so results are memoized in bounded caches shared by the whole run.
+ */
+public final class NameNormalizer {
+
+    private static final int MAX_CACHED_NAMES = 4096;
+
+    private static final Map<String, String> POE_NAMES = new ConcurrentHashMap<>();
+    private static final Map<String, String> PAGE_OBJECT_NAMES = new ConcurrentHashMap<>();
+
+    private NameNormalizer() {
+    }
+
+    /**
+     * Converts a field name to a Page Object element name.
+     * Example: "Field Name With Spaces" -> "FIELD_NAME_WITH_SPACES"
+     * Example: "Field#Name" -> "FIELDNUMBERNAME"
+     * Example: "Field   " -> "FIELD"
+     *
+     * @param fieldName The field name to be converted.
+     * @return String The converted Page Object element name.
+     */
+    public static String poeName(String fieldName) {
+        return memoized(POE_NAMES, fieldName, NameNormalizer::normalizePoeName);
+    }
+
+    /**
+     * Converts a page name to a valid Page Object class name.
+     * Example: "My Page Name" -> "MyPageName"
+     * Example: "Page (Special)" -> "PageSpecial"
+     *
+     * @param pageName The page name to be converted.
+     * @return String The converted Page Object class name.
+     */
+    public static String pageObjectName(String pageName) {
+        return memoized(PAGE_OBJECT_NAMES, pageName, NameNormalizer::normalizePageObjectName);
+    }
+
+    private static String memoized(Map<String, String> cache, String name, Function<String, String> normalizer) {
+        String normalized = cache.get(name);
+        if (normalized != null) return normalized;
+        normalized = normalizer.apply(name);
+        if (cache.size() < MAX_CACHED_NAMES) cache.put(name, normalized);
+        return normalized;
+    }
+
+    /**
+     * Replaces the special characters ?/+>.<-() and spaces with underscores (a ")" followed by a space becomes a
+     * single underscore), "&" with "AND" and "#" with "NUMBER", then drops every pair of consecutive underscores and a
+     * trailing underscore, and converts to uppercase.
+     */
+    static String normalizePoeName(String fieldName) {
+        int length = fieldName.length();
+        char[] buffer = new char[length * "NUMBER".length()];
+        int size = 0;
+        int underscores = 0;
+        for (int i = 0; i < length; i++) {
+            char c = fieldName.charAt(i);
+            switch (c) {
+                case '?', '/', '+', '>', '.', '<', '-', '(', ' ', '_' -> underscores++;
+                case ')' -> {
+                    underscores++;
+                    if (i + 1 < length && fieldName.charAt(i + 1) == ' ') i++;
+                }
+                default -> {
+                    // A run of underscores loses every pair, leaving at most one.
+                    if (underscores % 2 == 1) buffer[size++] = '_';
+                    underscores = 0;
+                    if (c == '&') size = append(buffer, size, "AND");
+                    else if (c == '#') size = append(buffer, size, "NUMBER");
+                    else buffer[size++] = c;
+                }
+            }
+        }
+        if (underscores % 2 == 1) buffer[size++] = '_';
+        String normalized = new String(buffer, 0, size).toUpperCase();
+        return normalized.endsWith("_") ? normalized.substring(0, normalized.length() - 1) : normalized;
+    }
+
+    /**
+     * Removes spaces, dashes and parentheses, and converts "&" to "And".
+     */
+    static String normalizePageObjectName(String pageName) {
+        int length = pageName.length();
+        char[] buffer = new char[length * "And".length()];
+        int size = 0;
+        boolean changed = false;
+        for (int i = 0; i < length; i++) {
+            char c = pageName.charAt(i);
+            switch (c) {
+                case ' ', '-', '(', ')' -> changed = true;
+                case '&' -> {
+                    size = append(buffer, size, "And");
+                    changed = true;
+                }
+                default -> buffer[size++] = c;
+            }
+        }
+        return changed ? new String(buffer, 0, size) : pageName;
+    }
+
+    private static int append(char[] buffer, int size, String value) {
+        value.getChars(0, value.length(), buffer, size);
+        return size + value.length();
+    }
+}
@@ -0,0 +1,87 @@
+package com.SerenityBDD.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Golden tests proving {@link NameNormalizer} produces the same names as the chained String.replace calls it
+ * replaced in PageObjectOperations.
+ */
+class NameNormalizerTest {
+
+    private static final String ALPHABET = "aZm09 ?/+><.-()&#_\u00DF\u0131\t";
+    private static final int RANDOM_INPUTS = 2_000_000;
+    private static final int MAX_LENGTH = 12;
+
+    @Test
+    void poeNameMatchesDocumentedExamples() {
+        assertEquals("FIELD_NAME_WITH_SPACES", NameNormalizer.poeName("Field Name With Spaces"));
+        assertEquals("FIELDNUMBERNAME", NameNormalizer.poeName("Field#Name"));
+        assertEquals("FIELD", NameNormalizer.poeName("Field   "));
+    }
+
+    @Test
+    void pageObjectNameMatchesDocumentedExamples() {
+        assertEquals("MyPageName", NameNormalizer.pageObjectName("My Page Name"));
+        assertEquals("SpecialPage", NameNormalizer.pageObjectName("Special-Page"));
+        assertEquals("PageSpecial", NameNormalizer.pageObjectName("Page (Special)"));
+    }
+
+    @Test
+    void poeNameMatchesReplaceChainOnEdgeCases() {
+        for (String name : new String[]{"", "_", "__", "___", ")", ") ", ")  ", "a) b", "a)) b", "&", "#", "a__b",
+                "a___b", "(a)", "a?/+><.-b", "Select (Optional) Value", "Field & Name # 2", "trailing_ "}) {
+            assertEquals(legacyPoeName(name), NameNormalizer.normalizePoeName(name), "poeName of: [" + name + "]");
+        }
+    }
+
+    @Test
+    void namesMatchReplaceChainsOnRandomInputs() {
+        Random random = new Random(20231017L);
+        char[] buffer = new char[MAX_LENGTH];
+        for (int i = 0; i < RANDOM_INPUTS; i++) {
+            int length = random.nextInt(MAX_LENGTH + 1);
+            for (int j = 0; j < length; j++) buffer[j] = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            String name = new String(buffer, 0, length);
+            assertEquals(legacyPoeName(name), NameNormalizer.normalizePoeName(name),
+                    () -> "poeName of: [" + name + "]");
+            assertEquals(legacyPageObjectName(name), NameNormalizer.normalizePageObjectName(name),
+                    () -> "pageObjectName of: [" + name + "]");
+        }
+    }
+
+    private static String legacyPoeName(String fieldName) {
+        fieldName = fieldName
+                .replace('?', '_')
+                .replace('/', '_')
+                .replace('+', '_')
+                .replace('>', '_')
+                .replace('.', '_')
+                .replace('<', '_')
+                .replace("&", "AND")
+                .replace('-', '_')
+                .replace('(', '_')
+                .replace(") ", "_")
+                .replace(')', '_')
+                .replace("#", "NUMBER")
+                .replace(' ', '_')
+                .replace("__", "")
+                .toUpperCase();
+        if (fieldName.endsWith("_")) {
+            fieldName = fieldName.substring(0, fieldName.length() - 1);
+        }
+        return fieldName;
+    }
+
+    private static String legacyPageObjectName(String pageName) {
+        return pageName
+                .replace(" ", "")
+                .replace("-", "")
+                .replace("(", "")
+                .replace(")", "")
+                .replace("&", "And");
+    }
+}
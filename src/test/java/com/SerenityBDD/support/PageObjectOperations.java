@@ -1,8 +1,11 @@
 package com.SerenityBDD.support;
 
+import net.serenitybdd.core.Serenity;
 import net.serenitybdd.core.pages.PageObject;
+import org.openqa.selenium.By;
 
 import java.lang.reflect.Field;
+import java.util.Optional;
 
 /**
  * Helper class for Serenity Page Objects operations.
@@ -11,6 +14,8 @@ public class PageObjectOperations extends PageObject {
 
     private final String BASE_PATH = "com.SerenityBDD.pages.";
 
+    private final PageObjectRegistry registry = PageObjectRegistry.getInstance();
+
     /**
      * Converts a field name to a Page Object element name.
      *
@@ -22,28 +27,9 @@ public class PageObjectOperations extends PageObject {
         // Removes leading or trailing double underscores and converts to uppercase.
         // Handles special case for the '#' character.
         // Example: "Field Name With Spaces" -> "FIELD_NAME_WITH_SPACES"
-        // Example: "Field#Name" -> "FIELD_NUMBERNAME"
+        // Example: "Field#Name" -> "FIELDNUMBERNAME"
         // Example: "Field   " -> "FIELD"
-        fieldName = fieldName
-                .replace('?', '_')
-                .replace('/', '_')
-                .replace('+', '_')
-                .replace('>', '_')
-                .replace('.', '_')
-                .replace('<', '_')
-                .replace("&", "AND")
-                .replace('-', '_')
-                .replace('(', '_')
-                .replace(") ", "_")
-                .replace(')', '_')
-                .replace("#", "NUMBER")
-                .replace(' ', '_')
-                .replace("__", "") // Remove any leading or trailing double underscores
-                .toUpperCase();
-        if (fieldName.endsWith("_")) {
-            fieldName = fieldName.substring(0, fieldName.length() - 1);
-        }
-        return fieldName;
+        return NameNormalizer.poeName(fieldName);
     }
 
     /**
@@ -57,12 +43,7 @@ public class PageObjectOperations extends PageObject {
         // Example: "My Page Name" -> "MyPageName"
         // Example: "Special-Page" -> "SpecialPage"
         // Example: "Page (Special)" -> "PageSpecial"
-        return pageName
-                .replace(" ", "")
-                .replace("-", "")
-                .replace("(", "")
-                .replace(")", "")
-                .replace("&", "And");
+        return NameNormalizer.pageObjectName(pageName);
     }
 
     /**
@@ -74,7 +55,7 @@ public class PageObjectOperations extends PageObject {
      */
     public Class<?> getPageClass(String pageObjectName) {
         try {
-            return Class.forName(BASE_PATH + pageObjectName(pageObjectName));
+            return lookupClass(pageObjectName(pageObjectName));
         } catch (ClassNotFoundException | NoClassDefFoundError e) {
             throw new RuntimeException("Unable to find " + pageObjectName(pageObjectName)
                     + " class under package: " + BASE_PATH + "Perhaps class not created or inaccessible.");
@@ -106,7 +87,7 @@ public class PageObjectOperations extends PageObject {
         Class<?> pageClass = getPageClass(pageObjectClassName, workflow);
         poeName = poeName(poeName);
         try {
-            return pageClass.getField(poeName);
+            return lookupField(pageClass, poeName, false);
         } catch (NoSuchFieldException e) {
             throw new RuntimeException("Unable to find " + poeName + " field in the class: "
                     + BASE_PATH + pageObjectName(workflow).toLowerCase()
@@ -130,7 +111,7 @@ public class PageObjectOperations extends PageObject {
         Class<?> pageClass = getPageClass(pageObjectClassName);
         poeName = poeName(poeName);
         try {
-            return pageClass.getField(poeName);
+            return lookupField(pageClass, poeName, false);
         } catch (NoSuchFieldException e) {
             throw new RuntimeException("Unable to find " + poeName + " field in the class: " +
                     BASE_PATH + pageObjectName(pageObjectClassName)
@@ -152,8 +133,7 @@ public class PageObjectOperations extends PageObject {
      */
     public Class<?> getSectionClass(String section, String workflow) {
         try {
-            return Class.forName(BASE_PATH + pageObjectName(workflow)
-                    .toLowerCase() + ".section." + pageObjectName(section));
+            return lookupClass(pageObjectName(workflow).toLowerCase() + ".section." + pageObjectName(section));
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Unable to find " + pageObjectName(section) + " class under package: " +
                     BASE_PATH + pageObjectName(workflow).toLowerCase() + ".section. Perhaps " +
@@ -173,7 +153,7 @@ public class PageObjectOperations extends PageObject {
     public Field poeSectionClass(String sectionName, String sectionObjectClassName, String workflow) {
         Class<?> sectionClass = getSectionClass(sectionObjectClassName, workflow);
         try {
-            return sectionClass.getDeclaredField(sectionName);
+            return lookupField(sectionClass, sectionName, true);
         } catch (NoSuchFieldException e) {
             throw new RuntimeException("Unable to find " + sectionName + " field in the class: " + BASE_PATH
                     + pageObjectName(workflow).toLowerCase() + ".section." + sectionObjectClassName
@@ -195,8 +175,7 @@ public class PageObjectOperations extends PageObject {
      */
     public Class<?> getGridClass(String grid, String workflow) {
         try {
-            return Class.forName(BASE_PATH + pageObjectName(workflow).toLowerCase() + ".grids." +
-                    pageObjectName(grid));
+            return lookupClass(pageObjectName(workflow).toLowerCase() + ".grids." + pageObjectName(grid));
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Unable to find " + pageObjectName(grid) + " class under package: " + BASE_PATH
                     + pageObjectName(workflow).toLowerCase() + ".grids. Perhaps class not created or inaccessible.");
@@ -215,7 +194,7 @@ public class PageObjectOperations extends PageObject {
     public Field poeGridClass(String gridField, String gridName, String workflow) {
         Class<?> gridClass = getGridClass(gridName, workflow);
         try {
-            return gridClass.getDeclaredField(gridField);
+            return lookupField(gridClass, gridField, true);
         } catch (NoSuchFieldException e) {
             throw new RuntimeException("Unable to find " + gridField + " field under package: "
                     + BASE_PATH + pageObjectName(workflow).toLowerCase() +
@@ -237,8 +216,7 @@ public class PageObjectOperations extends PageObject {
      */
     public Class<?> getDialogClass(String dialog, String workflow) {
         try {
-            return Class.forName(BASE_PATH + pageObjectName(workflow).toLowerCase() + ".dialogs." +
-                    pageObjectName(dialog));
+            return lookupClass(pageObjectName(workflow).toLowerCase() + ".dialogs." + pageObjectName(dialog));
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Unable to find " + pageObjectName(dialog) + " class under package: " + BASE_PATH
                     + pageObjectName(workflow).toLowerCase() + ".dialogs. Perhaps class not created or inaccessible.");
@@ -257,7 +235,7 @@ public class PageObjectOperations extends PageObject {
     public Field poeDialogClass(String dialogField, String dialogName, String workflow) {
         Class<?> dialogClass = getDialogClass(dialogName, workflow);
         try {
-            return dialogClass.getDeclaredField(dialogField);
+            return lookupField(dialogClass, dialogField, true);
         } catch (NoSuchFieldException e) {
             throw new RuntimeException("Unable to find " + dialogField + " field under package: "
                     + BASE_PATH + pageObjectName(workflow).toLowerCase() +
@@ -280,7 +258,7 @@ public class PageObjectOperations extends PageObject {
      */
     public Class<?> getTabClass(String tab, String page, String workflow) {
         try {
-            return Class.forName(BASE_PATH + pageObjectName(workflow).toLowerCase() + ".tabs." +
+            return lookupClass(pageObjectName(workflow).toLowerCase() + ".tabs." +
                     pageObjectName(page).toLowerCase() + "." + pageObjectName(tab));
         } catch (ClassNotFoundException e) {
             throw new RuntimeException("Unable to find " + pageObjectName(tab) + " class under package: " + BASE_PATH
@@ -302,7 +280,7 @@ public class PageObjectOperations extends PageObject {
     public Field poeTabClass(String tabField, String tabName, String pageName, String workflow) {
         Class<?> dialogClass = getTabClass(tabName, pageName, workflow);
         try {
-            return dialogClass.getDeclaredField(tabField);
+            return lookupField(dialogClass, tabField, true);
         } catch (NoSuchFieldException e) {
             throw new RuntimeException("Unable to find " + tabField + " field under package: "
                     + BASE_PATH + pageObjectName(workflow).toLowerCase() + ".tabs." +
@@ -313,4 +291,79 @@ public class PageObjectOperations extends PageObject {
                     pageObjectName(pageName).toLowerCase() + ". Perhaps element access is not allowed.");
         }
     }
+
+    /**
+     * Retrieves the Page Object the scenario is focused on, as named by the "Current Page" session variable.
+     * The class and its element fields are resolved once per scenario and reused by every step.
+     *
+     * @return FocusedPage The focused Page Object.
+     * @throws RuntimeException If the Page Object class is not found or accessible.
+     */
+    public FocusedPage currentPage() {
+        String currentPage = Serenity.sessionVariableCalled("Current Page");
+        return ScenarioContext.current().focusedPage(currentPage, this::getPageClass);
+    }
+
+    /**
+     * Focuses the scenario on a Page Object, recording it both as the "Current Page" session variable and in the
+     * {@link ScenarioContext}.
+     *
+     * @param pageObjectName The Page Object name relative to the pages package, e.g. "main.grids.Results".
+     * @param pageClass      The Class object representing the Page Object.
+     */
+    public void focusOn(String pageObjectName, Class<?> pageClass) {
+        Serenity.setSessionVariable("Current Page").to(pageObjectName);
+        ScenarioContext.current().focusOn(new FocusedPage(pageObjectName, pageClass));
+    }
+
+    /**
+     * Captures the markup of a container with a single script execution, unless the capture taken earlier in the
+     * scenario is still current.
+     *
+     * @param container The locator for the container element.
+     * @return HtmlCapture The markup of the container.
+     */
+    public HtmlCapture capturingHtml(By container) {
+        ScenarioContext context = ScenarioContext.current();
+        ElementCache elementCache = context.elementCache();
+        String generation = elementCache.contentGeneration(getDriver());
+        HtmlCapture capture = context.htmlCaptures().get(container);
+        if (capture != null && generation != null && generation.equals(capture.generation())) return capture;
+        capture = elementCache.readingFrom(getDriver(), container,
+                element -> HtmlCapture.of(getDriver(), element, generation));
+        context.htmlCaptures().put(container, capture);
+        return capture;
+    }
+
+    /**
+     * Resolves a Page Object class from the {@link PageObjectRegistry}, loading it reflectively only when it was not
+     * indexed at startup.
+     *
+     * @param relativeName The class name relative to the pages package, e.g. "main.section.Header".
+     * @return Class<?> The Class object representing the Page Object.
+     * @throws ClassNotFoundException If the class does not exist.
+     */
+    private Class<?> lookupClass(String relativeName) throws ClassNotFoundException {
+        Optional<PageObjectRegistry.PageObjectEntry> entry = registry.find(relativeName);
+        if (entry.isPresent()) return entry.get().pageClass();
+        return Class.forName(BASE_PATH + relativeName);
+    }
+
+    /**
+     * Resolves a locator field from the {@link PageObjectRegistry}, falling back to reflection for fields that are
+     * not indexed, e.g. fields that are not static By locators.
+     *
+     * @param pageClass The Page Object class.
+     * @param fieldName The field name.
+     * @param declared  Whether to look up declared fields only, as {@link Class#getDeclaredField} does, rather than
+     *                  public fields including inherited ones.
+     * @return Field The Field object representing the Page Object element.
+     * @throws NoSuchFieldException If the field does not exist.
+     */
+    private Field lookupField(Class<?> pageClass, String fieldName, boolean declared) throws NoSuchFieldException {
+        Optional<Field> field = registry.find(pageClass).flatMap(entry -> declared
+                ? entry.declaredField(fieldName) : entry.publicField(fieldName));
+        if (field.isPresent()) return field.get();
+        return declared ? pageClass.getDeclaredField(fieldName) : pageClass.getField(fieldName);
+    }
 }
@@ -0,0 +1,245 @@
+package com.SerenityBDD.support;
+
+import org.openqa.selenium.By;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Stream;
+
+/**
+ * Immutable index of the page objects under {@code com.SerenityBDD.pages}, built once per run.
+ * Classes are keyed by their name relative to the pages package, i.e. the same value the step definitions keep as
+ * "Current Page" (e.g. "GoogleHome", "main.HomePage", "main.section.Header", "main.grids.Results",
+ * "main.dialogs.Confirm" or "main.tabs.dashboard.Overview").
+ */
+public final class PageObjectRegistry {
+
+    static final String BASE_PACKAGE = "com.SerenityBDD.pages";
+
+    private final Map<String, PageObjectEntry> entries;
+
+    private PageObjectRegistry(Map<String, PageObjectEntry> entries) {
+        this.entries = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Returns the registry, scanning the pages package on first use.
+     *
+     * @return PageObjectRegistry The registry shared by the whole run.
+     */
+    public static PageObjectRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Looks up a page object by its name relative to the pages package.
+     *
+     * @param relativeName The page object name, e.g. "main.section.Header".
+     * @return Optional<PageObjectEntry> The indexed page object, empty if it was not found while scanning.
+     */
+    public Optional<PageObjectEntry> find(String relativeName) {
+        return Optional.ofNullable(entries.get(relativeName));
+    }
+
+    /**
+     * Looks up the index entry of a page object class.
+     *
+     * @param pageClass The page object class.
+     * @return Optional<PageObjectEntry> The indexed page object, empty if the class is not under the pages package.
+     */
+    public Optional<PageObjectEntry> find(Class<?> pageClass) {
+        String className = pageClass.getName();
+        if (!className.startsWith(BASE_PACKAGE + ".")) return Optional.empty();
+        return find(className.substring(BASE_PACKAGE.length() + 1));
+    }
+
+    /**
+     * Resolves the value of a locator field through the compile-time {@link GeneratedLocatorIndex}, without
+     * reflection.
+     *
+     * @param field The locator field.
+     * @return Optional<By> The locator, empty if the field was not indexed at compile time.
+     */
+    public Optional<By> locator(Field field) {
+        return find(field.getDeclaringClass()).flatMap(entry -> entry.locator(field.getName()));
+    }
+
+    /**
+     * Get the number of page objects indexed.
+     *
+     * @return int The number of indexed page object classes.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Scans the pages package on the classpath, both exploded directories and jars.
+     *
+     * @return PageObjectRegistry The populated registry.
+     * @throws RuntimeException If the classpath cannot be read.
+     */
+    static PageObjectRegistry scan() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        if (loader == null) loader = PageObjectRegistry.class.getClassLoader();
+        String basePath = BASE_PACKAGE.replace('.', '/');
+        Set<String> classNames = new TreeSet<>();
+        try {
+            Enumeration<URL> roots = loader.getResources(basePath);
+            while (roots.hasMoreElements()) {
+                URL root = roots.nextElement();
+                switch (root.getProtocol()) {
+                    case "file" -> classNames.addAll(classNamesInDirectory(Paths.get(root.toURI())));
+                    case "jar" -> classNames.addAll(classNamesInJar((JarURLConnection) root.openConnection(), basePath));
+                    default -> { }
+                }
+            }
+        } catch (IOException | URISyntaxException e) {
+            throw new RuntimeException("Unable to scan package: " + BASE_PACKAGE + " for page objects.", e);
+        }
+        Map<String, PageObjectEntry> entries = new HashMap<>();
+        for (String className : classNames) {
+            try {
+                Class<?> pageClass = Class.forName(className, false, loader);
+                String relativeName = className.substring(BASE_PACKAGE.length() + 1);
+                entries.put(relativeName, PageObjectEntry.of(relativeName, pageClass));
+            } catch (ClassNotFoundException | LinkageError ignored) {
+                // Left out of the index; lookups for it fall back to the reflective path.
+            }
+        }
+        return new PageObjectRegistry(entries);
+    }
+
+    private static List<String> classNamesInDirectory(Path root) throws IOException {
+        try (Stream<Path> paths = Files.walk(root)) {
+            return paths.filter(path -> isTopLevelClass(path.getFileName().toString()))
+                    .map(path -> root.relativize(path).toString().replace('\\', '/'))
+                    .map(path -> BASE_PACKAGE + "." + path.substring(0, path.length() - ".class".length())
+                            .replace('/', '.'))
+                    .toList();
+        }
+    }
+
+    private static List<String> classNamesInJar(JarURLConnection connection, String basePath) throws IOException {
+        List<String> classNames = new ArrayList<>();
+        connection.setUseCaches(false);
+        try (JarFile jar = connection.getJarFile()) {
+            Enumeration<JarEntry> jarEntries = jar.entries();
+            while (jarEntries.hasMoreElements()) {
+                String name = jarEntries.nextElement().getName();
+                if (name.startsWith(basePath + "/") && isTopLevelClass(name.substring(name.lastIndexOf('/') + 1))) {
+                    classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+                }
+            }
+        }
+        return classNames;
+    }
+
+    private static boolean isTopLevelClass(String fileName) {
+        return fileName.endsWith(".class") && !fileName.contains("$") && !fileName.equals("package-info.class");
+    }
+
+    /**
+     * Kinds of page objects, derived from the sub-package the class lives in.
+     */
+    public enum Kind {
+        PAGE,
+        SECTION,
+        GRID,
+        DIALOG,
+        TAB;
+
+        /**
+         * Resolves the kind of page object from its name relative to the pages package.
+         *
+         * @param relativeName The page object name, e.g. "main.grids.Results".
+         * @return Kind The resolved kind.
+         */
+        public static Kind resoluteKind(String relativeName) {
+            String[] parts = relativeName.split("\\.");
+            if (parts.length < 3) return PAGE;
+            return switch (parts[1]) {
+                case "section" -> SECTION;
+                case "grids" -> GRID;
+                case "dialogs" -> DIALOG;
+                case "tabs" -> TAB;
+                default -> PAGE;
+            };
+        }
+    }
+
+    /**
+     * A page object class together with the By locator fields it exposes.
+     *
+     * @param name           The name relative to the pages package.
+     * @param kind           The kind of page object.
+     * @param workflow       The workflow package, empty for page objects directly under the pages package.
+     * @param pageClass      The page object class.
+     * @param publicFields   Public static By fields, including inherited ones, as found by {@link Class#getField}.
+     * @param declaredFields Static By fields declared on the class, as found by {@link Class#getDeclaredField}.
+     */
+    public record PageObjectEntry(String name, Kind kind, String workflow, Class<?> pageClass,
+                                  Map<String, Field> publicFields, Map<String, Field> declaredFields) {
+
+        static PageObjectEntry of(String relativeName, Class<?> pageClass) {
+            int workflowEnd = relativeName.indexOf('.');
+            String workflow = workflowEnd < 0 ? "" : relativeName.substring(0, workflowEnd);
+            return new PageObjectEntry(relativeName, Kind.resoluteKind(relativeName), workflow, pageClass,
+                    locatorFields(pageClass.getFields()), locatorFields(pageClass.getDeclaredFields()));
+        }
+
+        private static Map<String, Field> locatorFields(Field[] fields) {
+            Map<String, Field> locators = new HashMap<>();
+            for (Field field : fields) {
+                if (Modifier.isStatic(field.getModifiers()) && By.class.isAssignableFrom(field.getType())) {
+                    locators.putIfAbsent(field.getName(), field);
+                }
+            }
+            return Collections.unmodifiableMap(locators);
+        }
+
+        /**
+         * Resolves a locator of this page object through the compile-time {@link GeneratedLocatorIndex}.
+         *
+         * @param fieldName The locator field name.
+         * @return Optional<By> The locator, empty if it is not a public static final By field.
+         */
+        public Optional<By> locator(String fieldName) {
+            return Optional.ofNullable(GeneratedLocatorIndex.locator(name, fieldName));
+        }
+
+        /**
+         * Finds a public locator field, the indexed equivalent of {@link Class#getField}.
+         *
+         * @param fieldName The field name.
+         * @return Optional<Field> The field, empty if the class has no such static By field.
+         */
+        public Optional<Field> publicField(String fieldName) {
+            return Optional.ofNullable(publicFields.get(fieldName));
+        }
+
+        /**
+         * Finds a declared locator field, the indexed equivalent of {@link Class#getDeclaredField}.
+         *
+         * @param fieldName The field name.
+         * @return Optional<Field> The field, empty if the class declares no such static By field.
+         */
+        public Optional<Field> declaredField(String fieldName) {
+            return Optional.ofNullable(declaredFields.get(fieldName));
+        }
+    }
+
+    private static final class Holder {
+        static final PageObjectRegistry INSTANCE = scan();
+    }
+}
@@ -0,0 +1,182 @@
+package com.SerenityBDD.support;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A date relative to today, compiled once into an immutable list of steps and cached by its text. The grammar is
+ * <pre>
+ * expression := ('t' | 'w') term* ('/t' term*)? ('&amp;dtf=' formatter)?
+ * term       := ('+' | '-') digits unit? | '@' ('eom' | 'som' | 'nbd')
+ * unit       := 'd' | 'w' | 'm' | 'y' | 'bd'
+ * </pre>
+ * "t" is today and "w" the Monday of the current week. Terms apply from left to right: days, weeks, months, years
+ * or business days, which skip Saturdays and Sundays, end or start of the month, or the next business day if the
+ * date falls on a weekend. A term without a unit counts days after "t" and "/t", and weeks after "w". So "t+2m",
+ * "t+1y-2m+3d", "w-1/t+3", "t+5bd" and "t+1m@eom" are all expressions. The formatter suffix is ignored. Text that is
+ * not an expression, e.g. a literal date, evaluates to today, as it always has.
+ */
+public final class RelativeDateExpression {
+
+    /**
+     * Expressions beyond this many are compiled on every use instead of cached, so unique values cannot grow the
+     * cache without bound.
+     */
+    static final int MAX_CACHED_EXPRESSIONS = 10_000;
+
+    private static final String DTF_SEPARATOR = "&dtf=";
+    private static final RelativeDateExpression TODAY = new RelativeDateExpression(new ArrayList<>());
+    private static final Map<String, RelativeDateExpression> EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private final Step[] steps;
+
+    private RelativeDateExpression(List<Step> steps) {
+        this.steps = steps.toArray(new Step[0]);
+    }
+
+    /**
+     * Get the compiled expression of a value, parsing it on first use.
+     *
+     * @param value The expression, e.g. "t+2m" or "w-1/t+3".
+     * @return RelativeDateExpression The compiled expression.
+     */
+    public static RelativeDateExpression compile(String value) {
+        RelativeDateExpression expression = EXPRESSIONS.get(value);
+        if (expression == null) {
+            expression = parse(value);
+            if (EXPRESSIONS.size() < MAX_CACHED_EXPRESSIONS) EXPRESSIONS.put(value, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param today The date "t" stands for.
+     * @return LocalDate The date the expression describes.
+     */
+    public LocalDate evaluate(LocalDate today) {
+        LocalDate date = today;
+        for (Step step : steps) date = step.apply(date);
+        return date;
+    }
+
+    private static RelativeDateExpression parse(String value) {
+        int dtf = value.indexOf(DTF_SEPARATOR);
+        String expression = dtf < 0 ? value : value.substring(0, dtf);
+        if (expression.isEmpty() || (expression.charAt(0) != 't' && expression.charAt(0) != 'w')) return TODAY;
+        boolean week = expression.charAt(0) == 'w';
+        List<Step> steps = new ArrayList<>();
+        if (week) steps.add(new Adjust(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+        int position = parseTerms(expression, 1, week ? ChronoUnit.WEEKS : ChronoUnit.DAYS, steps);
+        if (position > 0 && expression.startsWith("/t", position)) {
+            position = parseTerms(expression, position + 2, ChronoUnit.DAYS, steps);
+        }
+        if (position == expression.length()) return new RelativeDateExpression(steps);
+        if (expression.indexOf('+') < 0 && expression.indexOf('-') < 0) return TODAY;
+        throw new RuntimeException("Unable to parse the relative date: " + value);
+    }
+
+    private static int parseTerms(String expression, int position, ChronoUnit defaultUnit, List<Step> steps) {
+        while (position < expression.length()) {
+            char c = expression.charAt(position);
+            if (c == '+' || c == '-') {
+                int digits = position + 1;
+                while (digits < expression.length() && Character.isDigit(expression.charAt(digits))) digits++;
+                if (digits == position + 1) return -1;
+                int amount = Integer.parseInt(expression.substring(position + 1, digits));
+                if (c == '-') amount = -amount;
+                position = wordEnd(expression, digits);
+                String unit = expression.substring(digits, position).toLowerCase();
+                Step step = switch (unit) {
+                    case "" -> new Shift(amount, defaultUnit);
+                    case "d" -> new Shift(amount, ChronoUnit.DAYS);
+                    case "w" -> new Shift(amount, ChronoUnit.WEEKS);
+                    case "m" -> new Shift(amount, ChronoUnit.MONTHS);
+                    case "y" -> new Shift(amount, ChronoUnit.YEARS);
+                    case "bd" -> new BusinessDays(amount);
+                    default -> null;
+                };
+                if (step == null) return -1;
+                steps.add(step);
+            } else if (c == '@') {
+                int start = position + 1;
+                position = wordEnd(expression, start);
+                Step step = switch (expression.substring(start, position).toLowerCase()) {
+                    case "eom" -> new Adjust(TemporalAdjusters.lastDayOfMonth());
+                    case "som" -> new Adjust(TemporalAdjusters.firstDayOfMonth());
+                    case "nbd" -> new BusinessDays(0);
+                    default -> null;
+                };
+                if (step == null) return -1;
+                steps.add(step);
+            } else {
+                return position;
+            }
+        }
+        return position;
+    }
+
+    private static int wordEnd(String expression, int position) {
+        while (position < expression.length() && Character.isLetter(expression.charAt(position))) position++;
+        return position;
+    }
+
+    /**
+     * A step of a compiled expression.
+     */
+    sealed interface Step permits Shift, BusinessDays, Adjust {
+        LocalDate apply(LocalDate date);
+    }
+
+    /**
+     * Adds an amount of a calendar unit.
+     */
+    record Shift(int amount, ChronoUnit unit) implements Step {
+        @Override
+        public LocalDate apply(LocalDate date) {
+            return date.plus(amount, unit);
+        }
+    }
+
+    /**
+     * Adds business days, skipping Saturdays and Sundays. Zero business days moves a weekend date to the Monday.
+     */
+    record BusinessDays(int amount) implements Step {
+        @Override
+        public LocalDate apply(LocalDate date) {
+            if (amount == 0) {
+                while (isWeekend(date)) date = date.plusDays(1);
+                return date;
+            }
+            int direction = amount < 0 ? -1 : 1;
+            for (int remaining = Math.abs(amount); remaining > 0; ) {
+                date = date.plusDays(direction);
+                if (!isWeekend(date)) remaining--;
+            }
+            return date;
+        }
+
+        private static boolean isWeekend(LocalDate date) {
+            DayOfWeek day = date.getDayOfWeek();
+            return day == DayOfWeek.SATURDAY || day == DayOfWeek.SUNDAY;
+        }
+    }
+
+    /**
+     * Moves the date with a {@link TemporalAdjuster}.
+     */
+    record Adjust(TemporalAdjuster adjuster) implements Step {
+        @Override
+        public LocalDate apply(LocalDate date) {
+            return date.with(adjuster);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.SerenityBDD.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.TemporalAdjusters;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Golden tests proving {@link RelativeDateExpression} and {@link RelativeTimeExpression} give the same dates and
+ * times as the parsing they replaced in DataObjectOperations, and tests of the grammar they added.
+ */
+class RelativeDateExpressionTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2023, 1, 1);
+    private static final LocalDate LAST_DAY = LocalDate.of(2025, 1, 1);
+
+    @Test
+    void dateMatchesLegacyParsingOnEveryDayOfTwoYears() {
+        String[] values = {"t", "t+1", "t-1", "t+0", "t+31", "t-365", "t+2m", "t-2m", "t+13m", "t+2M", "t+2y", "t-2Y",
+                "t+1&dtf=UI_DTF", "t-2m&dtf=HYPHEN_DTF", "t&dtf=UI_DTF", "w", "w+1", "w-1", "w+52", "w-1/t+3",
+                "w+2/t-1", "w-3/t+10", "03/15/2024", "Tomorrow", ""};
+        for (LocalDate today = FIRST_DAY; today.isBefore(LAST_DAY); today = today.plusDays(1)) {
+            for (String value : values) {
+                LocalDate day = today;
+                assertEquals(legacyDate(value, today), RelativeDateExpression.compile(value).evaluate(today),
+                        () -> "date of: [" + value + "] on " + day);
+            }
+        }
+    }
+
+    @Test
+    void timeMatchesLegacyParsing() {
+        String[] values = {"n", "n+2m", "n-2m", "n+90m", "n-90m", "n+2h", "n-2h", "n+25h", "n+2M", "n-1H"};
+        for (LocalTime now : new LocalTime[]{LocalTime.MIDNIGHT, LocalTime.of(0, 10, 5), LocalTime.NOON,
+                LocalTime.of(23, 50, 59, 999_000_000)}) {
+            for (String value : values) {
+                assertEquals(legacyTime(value, now), RelativeTimeExpression.compile(value).evaluate(now),
+                        () -> "time of: [" + value + "] at " + now);
+            }
+        }
+    }
+
+    @Test
+    void businessDaysSkipWeekends() {
+        LocalDate friday = LocalDate.of(2024, 3, 1);
+        LocalDate saturday = LocalDate.of(2024, 3, 2);
+        LocalDate monday = LocalDate.of(2024, 3, 4);
+
+        assertEquals(monday, date("t+1bd", friday));
+        assertEquals(LocalDate.of(2024, 3, 8), date("t+5bd", friday));
+        assertEquals(monday, date("t+1bd", saturday));
+        assertEquals(friday, date("t-1bd", monday));
+        assertEquals(friday, date("t-1bd", saturday));
+        assertEquals(LocalDate.of(2024, 2, 26), date("t-5bd", monday));
+        assertEquals(LocalDate.of(2024, 2, 28), date("t-2BD", friday));
+    }
+
+    @Test
+    void nextBusinessDayMovesOnlyWeekendDates() {
+        LocalDate friday = LocalDate.of(2024, 3, 1);
+        LocalDate monday = LocalDate.of(2024, 3, 4);
+
+        assertEquals(friday, date("t@nbd", friday));
+        assertEquals(monday, date("t@nbd", LocalDate.of(2024, 3, 2)));
+        assertEquals(monday, date("t@nbd", LocalDate.of(2024, 3, 3)));
+        assertEquals(monday, date("t+1@nbd", friday));
+        assertEquals(monday, date("t+2@nbd", friday));
+    }
+
+    @Test
+    void endAndStartOfMonthFollowLeapYears() {
+        LocalDate leapDay = LocalDate.of(2024, 2, 29);
+
+        assertEquals(leapDay, date("t@eom", LocalDate.of(2024, 2, 10)));
+        assertEquals(LocalDate.of(2023, 2, 28), date("t@eom", LocalDate.of(2023, 2, 10)));
+        assertEquals(leapDay, date("t+1m@eom", LocalDate.of(2024, 1, 31)));
+        assertEquals(leapDay, date("t+1m", LocalDate.of(2024, 1, 31)));
+        assertEquals(LocalDate.of(2024, 3, 31), date("t+1m@eom", leapDay));
+        assertEquals(LocalDate.of(2025, 2, 28), date("t+1y@eom", leapDay));
+        assertEquals(LocalDate.of(2024, 2, 1), date("t-1m@som", LocalDate.of(2024, 3, 31)));
+        assertEquals(LocalDate.of(2024, 3, 1), date("t+1@som", leapDay));
+    }
+
+    @Test
+    void termsCombineFromLeftToRight() {
+        LocalDate today = LocalDate.of(2024, 2, 29);
+
+        assertEquals(LocalDate.of(2024, 12, 31), date("t+1y-2m+3d", today));
+        assertEquals(LocalDate.of(2024, 3, 14), date("t+2w", today));
+        assertEquals(LocalDate.of(2024, 3, 18), date("w+3", today));
+        assertEquals(LocalDate.of(2024, 3, 18), date("w+3w", today));
+        assertEquals(LocalDate.of(2024, 3, 1), date("w+4d", today));
+        assertEquals(LocalDate.of(2024, 2, 12), date("w-1/t-1w", today));
+        assertEquals(LocalDate.of(2024, 3, 29), date("t+1m@eom@nbd-1bd", today));
+    }
+
+    @Test
+    void weekDayWithoutWeekOffsetCountsFromMonday() {
+        LocalDate thursday = LocalDate.of(2024, 2, 29);
+
+        assertEquals(LocalDate.of(2024, 3, 3), legacyDate("w/t+3", thursday));
+        assertEquals(LocalDate.of(2024, 2, 29), date("w/t+3", thursday));
+    }
+
+    @Test
+    void timeOffsetWithoutUnitIsRejected() {
+        LocalTime noon = LocalTime.NOON;
+
+        assertNull(legacyTime("n+2", noon));
+        assertThrows(RuntimeException.class, () -> RelativeTimeExpression.compile("n+2"));
+        assertEquals(LocalTime.of(12, 45, 30), RelativeTimeExpression.compile("n+1h-15m+30s").evaluate(noon));
+        assertEquals(LocalTime.of(12, 5), RelativeTimeExpression.compile("n+5m&dtf=TIME_DTF").evaluate(noon));
+    }
+
+    @Test
+    void malformedDatesAreRejected() {
+        for (String value : new String[]{"t+x", "t+1q", "t+1@eoy", "t+", "w-1/t+3/t+1"}) {
+            assertThrows(RuntimeException.class, () -> RelativeDateExpression.compile(value));
+        }
+    }
+
+    private static LocalDate date(String value, LocalDate today) {
+        return RelativeDateExpression.compile(value).evaluate(today);
+    }
+
+    /**
+     * DataObjectOperations.transformDateValue before RelativeDateExpression, reading today from a parameter.
+     */
+    private static LocalDate legacyDate(String value, LocalDate today) {
+        if (value.equals("t")) return today;
+        LocalDate currentWeekFirstDay;
+        if (value.equals("w")) {
+            currentWeekFirstDay = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            return currentWeekFirstDay;
+        }
+        boolean toAdd = value.contains("+");
+        boolean toSubtract = value.contains("-");
+        LocalDate finalValue = today;
+
+        if (value.startsWith("t")) {
+            String[] arr = value.contains("+") ? value.split("\\+") : value.split("-");
+            try {
+                arr[1] = arr[1].contains("&dtf=") ? arr[1].split("&dtf=")[0] : arr[1];
+            } catch (ArrayIndexOutOfBoundsException ignored) {}
+            if (toAdd) {
+                if (arr[1].toLowerCase().contains("m")) {
+                    finalValue = today.plusMonths(Integer.parseInt(arr[1].toLowerCase().split("m")[0]));
+                } else if (arr[1].toLowerCase().contains("y")) {
+                    finalValue = today.plusYears(Integer.parseInt(arr[1].toLowerCase().split("y")[0]));
+                } else {
+                    finalValue = today.plusDays(Integer.parseInt(arr[1]));
+                }
+            } else if(toSubtract) {
+                if (arr[1].toLowerCase().contains("m")) {
+                    finalValue = today.minusMonths(Integer.parseInt(arr[1].toLowerCase().split("m")[0]));
+                } else if (arr[1].toLowerCase().contains("y")) {
+                    finalValue = today.minusYears(Integer.parseInt(arr[1].toLowerCase().split("y")[0]));
+                } else {
+                    finalValue = today.minusDays(Integer.parseInt(arr[1]));
+                }
+            }
+        }
+        if (value.startsWith("w")) {
+            if (value.contains("t")) {
+                String[] weekAndDay = value.split("/");
+                String[] weekAndAppendages = weekAndDay[0].contains("-") ? weekAndDay[0].split("-") :
+                        weekAndDay[0].split("\\+");
+
+                boolean weekToAdd = weekAndDay[0].contains("+"); boolean weekToSubtract = weekAndDay[0].contains("-");
+
+                if (weekToAdd) {
+                    finalValue = today.plusWeeks(Integer.parseInt(weekAndAppendages[1]))
+                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                } else if (weekToSubtract) {
+                    finalValue = today.minusWeeks(Integer.parseInt(weekAndAppendages[1]))
+                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                }
+
+                String[] dayAndAppendages = weekAndDay[1].contains("-") ? weekAndDay[1].split("-") :
+                        weekAndDay[1].split("\\+");
+
+                boolean dayToAdd = weekAndDay[1].contains("+"); boolean dayToSubtract = weekAndDay[1].contains("-");
+
+                if (dayToAdd) finalValue = finalValue.plusDays(Integer.parseInt(dayAndAppendages[1]));
+                else if (dayToSubtract) finalValue = finalValue.minusDays(Integer.parseInt(dayAndAppendages[1]));
+            } else {
+                String[] weekAndAppendages = value.contains("-") ? value.split("-") : value.split("\\+");
+
+                boolean weekToAdd = value.contains("+"); boolean weekToSubtract = value.contains("-");
+
+                if (weekToAdd) {
+                    finalValue = today.plusWeeks(Integer.parseInt(weekAndAppendages[1]))
+                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                } else if (weekToSubtract) {
+                    finalValue = today.minusWeeks(Integer.parseInt(weekAndAppendages[1]))
+                            .with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                }
+            }
+        }
+        return finalValue;
+    }
+
+    /**
+     * DataObjectOperations.transformTimeValue before RelativeTimeExpression, reading now from a parameter.
+     */
+    private static LocalTime legacyTime(String value, LocalTime now) {
+        if (value.equals("n")) {
+            return now;
+        }
+        String[] arr = value.contains("+") ? value.split("\\+") : value.split("-");
+
+        boolean toAdd = value.contains("+");
+        boolean toSubtract = value.contains("-");
+        LocalTime finalValue = null;
+
+        if (toAdd) {
+            if (arr[1].toLowerCase().contains("m")) {
+                finalValue = now.plusMinutes(Integer.parseInt(arr[1].toLowerCase().split("m")[0]));
+            } else if (arr[1].toLowerCase().contains("h")) {
+                finalValue = now.plusHours(Integer.parseInt(arr[1].toLowerCase().split("h")[0]));
+            }
+        } else if(toSubtract) {
+            if (arr[1].toLowerCase().contains("m")) {
+                finalValue = now.minusMinutes(Integer.parseInt(arr[1].toLowerCase().split("m")[0]));
+            } else if (arr[1].toLowerCase().contains("h")) {
+                finalValue = now.minusHours(Integer.parseInt(arr[1].toLowerCase().split("h")[0]));
+            }
+        }
+        return finalValue;
+    }
+}
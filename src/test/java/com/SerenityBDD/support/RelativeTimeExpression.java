@@ -0,0 +1,92 @@
+package com.SerenityBDD.support;
+
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A time relative to now, compiled once into an immutable offset and cached by its text. The grammar is
+ * <pre>
+ * expression := 'n' (('+' | '-') digits ('h' | 'm' | 's'))* ('&amp;dtf=' formatter)?
+ * </pre>
+ * so "n", "n-2h" and "n+1h-15m" are all expressions. The formatter suffix is ignored. Text that is not an
+ * expression, e.g. a literal time, evaluates to null, as it always has.
+ */
+public final class RelativeTimeExpression {
+
+    /**
+     * Expressions beyond this many are compiled on every use instead of cached, so unique values cannot grow the
+     * cache without bound.
+     */
+    static final int MAX_CACHED_EXPRESSIONS = 10_000;
+
+    private static final String DTF_SEPARATOR = "&dtf=";
+    private static final RelativeTimeExpression NONE = new RelativeTimeExpression(0, false);
+    private static final Map<String, RelativeTimeExpression> EXPRESSIONS = new ConcurrentHashMap<>();
+
+    private final long offsetSeconds;
+    private final boolean relative;
+
+    private RelativeTimeExpression(long offsetSeconds, boolean relative) {
+        this.offsetSeconds = offsetSeconds;
+        this.relative = relative;
+    }
+
+    /**
+     * Get the compiled expression of a value, parsing it on first use.
+     *
+     * @param value The expression, e.g. "n+2m" or "n-2h".
+     * @return RelativeTimeExpression The compiled expression.
+     */
+    public static RelativeTimeExpression compile(String value) {
+        RelativeTimeExpression expression = EXPRESSIONS.get(value);
+        if (expression == null) {
+            expression = parse(value);
+            if (EXPRESSIONS.size() < MAX_CACHED_EXPRESSIONS) EXPRESSIONS.put(value, expression);
+        }
+        return expression;
+    }
+
+    /**
+     * Evaluates the expression.
+     *
+     * @param now The time "n" stands for.
+     * @return LocalTime The time the expression describes, null if the value was not an expression.
+     */
+    public LocalTime evaluate(LocalTime now) {
+        return relative ? now.plusSeconds(offsetSeconds) : null;
+    }
+
+    private static RelativeTimeExpression parse(String value) {
+        int dtf = value.indexOf(DTF_SEPARATOR);
+        String expression = dtf < 0 ? value : value.substring(0, dtf);
+        if (expression.isEmpty() || expression.charAt(0) != 'n') return NONE;
+        long offsetSeconds = 0;
+        int position = 1;
+        while (position < expression.length()) {
+            char sign = expression.charAt(position);
+            int digits = position + 1;
+            while (digits < expression.length() && Character.isDigit(expression.charAt(digits))) digits++;
+            ChronoUnit unit = (sign == '+' || sign == '-') && digits > position + 1 && digits < expression.length()
+                    ? unitOf(expression.charAt(digits)) : null;
+            if (unit == null) {
+                if (expression.indexOf('+') < 0 && expression.indexOf('-') < 0) return NONE;
+                throw new RuntimeException("Unable to parse the relative time: " + value);
+            }
+            long amount = Long.parseLong(expression.substring(position + 1, digits));
+            offsetSeconds += (sign == '-' ? -amount : amount) * unit.getDuration().getSeconds();
+            position = digits + 1;
+        }
+        return new RelativeTimeExpression(offsetSeconds, true);
+    }
+
+    private static ChronoUnit unitOf(char unit) {
+        return switch (Character.toLowerCase(unit)) {
+            case 'h' -> ChronoUnit.HOURS;
+            case 'm' -> ChronoUnit.MINUTES;
+            case 's' -> ChronoUnit.SECONDS;
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.SerenityBDD.support;
+
+import com.SerenityBDD.execute.WindowManager;
+import com.SerenityBDD.navigation.NavigateTo;
+import net.serenitybdd.core.Serenity;
+import org.openqa.selenium.By;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Typed state of the running scenario. It lives in the Serenity session, which is cleared between scenarios and
+ * kept per thread, so scenarios running in parallel never see each other's state.
+ */
+public class ScenarioContext {
+
+    private static final String SESSION_KEY = "Scenario Context";
+
+    private FocusedPage focusedPage;
+    private NavigateTo navigateTo;
+    private WindowManager windowManager;
+    private final ElementCache elementCache = new ElementCache();
+    private final Map<By, GridSnapshot> gridSnapshots = new HashMap<>();
+    private final Map<By, HtmlCapture> htmlCaptures = new HashMap<>();
+    private final Map<String, String> tokenValues = new HashMap<>();
+    private final Map<String, FakeRecord> fakeRecords = new HashMap<>();
+    private LocalDateTime now;
+
+    /**
+     * Get the context of the running scenario, creating it on first use.
+     *
+     * @return ScenarioContext The context of the running scenario.
+     */
+    public static ScenarioContext current() {
+        ScenarioContext context = Serenity.sessionVariableCalled(SESSION_KEY);
+        if (context == null) {
+            context = new ScenarioContext();
+            Serenity.setSessionVariable(SESSION_KEY).to(context);
+        }
+        return context;
+    }
+
+    /**
+     * Records the page object the scenario has just focused on.
+     *
+     * @param page The focused page object.
+     */
+    public void focusOn(FocusedPage page) {
+        this.focusedPage = page;
+    }
+
+    /**
+     * Get the focused page object, re-resolving it only if "Current Page" was changed without focusing through
+     * {@link #focusOn(FocusedPage)}, e.g. by setting the session variable directly.
+     *
+     * @param currentPage The "Current Page" session variable.
+     * @param resolver    Resolves the page object class from its name.
+     * @return FocusedPage The focused page object.
+     */
+    public FocusedPage focusedPage(String currentPage, Function<String, Class<?>> resolver) {
+        if (focusedPage == null || !focusedPage.name().equals(currentPage)) {
+            focusedPage = new FocusedPage(currentPage, resolver.apply(currentPage));
+        }
+        return focusedPage;
+    }
+
+    /**
+     * Get the {@link NavigateTo} instance of the scenario, so its page objects are created once per scenario rather
+     * than on every navigation.
+     *
+     * @return NavigateTo The NavigateTo instance of the running scenario.
+     */
+    public NavigateTo navigateTo() {
+        if (navigateTo == null) navigateTo = new NavigateTo();
+        return navigateTo;
+    }
+
+    /**
+     * Get the {@link WindowManager} of the scenario, which keeps the window handles and titles seen so far.
+     *
+     * @return WindowManager The WindowManager of the running scenario.
+     */
+    public WindowManager windowManager() {
+        if (windowManager == null) windowManager = new WindowManager();
+        return windowManager;
+    }
+
+    /**
+     * Get the {@link ElementCache} of the scenario.
+     *
+     * @return ElementCache The element cache of the running scenario.
+     */
+    public ElementCache elementCache() {
+        return elementCache;
+    }
+
+    /**
+     * Get the grid snapshots taken in the scenario, by the locator of their table. A snapshot is reused only while
+     * its generation matches the current DOM content generation.
+     *
+     * @return Map<By, GridSnapshot> The grid snapshots of the running scenario.
+     */
+    public Map<By, GridSnapshot> gridSnapshots() {
+        return gridSnapshots;
+    }
+
+    /**
+     * Get the markup captures taken in the scenario, by the locator of their container. A capture is reused only
+     * while its generation matches the current DOM content generation.
+     *
+     * @return Map<By, HtmlCapture> The markup captures of the running scenario.
+     */
+    public Map<By, HtmlCapture> htmlCaptures() {
+        return htmlCaptures;
+    }
+
+    /**
+     * Get the values of data tokens cached for the scenario, see {@link TokenProvider.CachePolicy#PER_SCENARIO}.
+     *
+     * @return Map<String, String> The token values of the running scenario, by token and argument.
+     */
+    public Map<String, String> tokenValues() {
+        return tokenValues;
+    }
+
+    /**
+     * Get the fake data records shared by name in the scenario, see {@link DataObjectOperations#fakeRecord(String)}.
+     *
+     * @return Map<String, FakeRecord> The named fake data records of the running scenario.
+     */
+    public Map<String, FakeRecord> fakeRecords() {
+        return fakeRecords;
+    }
+
+    /**
+     * Get the instant of the scenario, read from the clock on first use. Relative dates and times, clock tokens and
+     * fake birth dates are all derived from it, so the values of one scenario never disagree because it ran past
+     * midnight, and "n" is the same time for every step of the scenario.
+     *
+     * @return LocalDateTime The instant of the running scenario.
+     */
+    public LocalDateTime now() {
+        if (now == null) now = LocalDateTime.now();
+        return now;
+    }
+
+    /**
+     * Get the date of the scenario, see {@link #now()}.
+     *
+     * @return LocalDate The date of the running scenario.
+     */
+    public LocalDate today() {
+        return now().toLocalDate();
+    }
+}
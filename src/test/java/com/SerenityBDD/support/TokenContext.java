@@ -0,0 +1,35 @@
+package com.SerenityBDD.support;
+
+import java.time.LocalDateTime;
+
+/**
+ * State shared by the tokens of one data value transformation.
+ */
+public final class TokenContext {
+
+    private final LocalDateTime now;
+    private final DataObjectOperations data;
+
+    TokenContext(LocalDateTime now, DataObjectOperations data) {
+        this.now = now;
+        this.data = data;
+    }
+
+    /**
+     * Get the instant of the transformation, read once so all clock tokens of a value agree.
+     *
+     * @return LocalDateTime The instant of the transformation.
+     */
+    public LocalDateTime now() {
+        return now;
+    }
+
+    /**
+     * Get the data operations the transformation runs on, e.g. to generate fake data.
+     *
+     * @return DataObjectOperations The data operations.
+     */
+    public DataObjectOperations data() {
+        return data;
+    }
+}
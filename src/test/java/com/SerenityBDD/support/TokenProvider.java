@@ -0,0 +1,61 @@
+package com.SerenityBDD.support;
+
+import java.util.Set;
+
+/**
+ * A provider of data tokens, the names encapsulated in $---$ within data values, see
+ * {@link DataObjectOperations#transformDataValue(String)}. Besides the built-in tokens, providers are discovered with
+ * {@link java.util.ServiceLoader}: list the implementing class, which needs a public no-argument constructor, in
+ * META-INF/services/com.SerenityBDD.support.TokenProvider on the test classpath. Every token name can only be
+ * provided once.
+ */
+public interface TokenProvider {
+
+    /**
+     * Get the names of the tokens the provider evaluates.
+     *
+     * @return Set<String> The token names, e.g. "CURRENT_DATE".
+     */
+    Set<String> tokens();
+
+    /**
+     * Check if a token takes the "$"-separated segment following it as its argument, as SESSION_VARIABLE takes the
+     * name of the variable.
+     *
+     * @param token The token name.
+     * @return True if the token takes an argument.
+     */
+    default boolean takesArgument(String token) {
+        return false;
+    }
+
+    /**
+     * Get how long a value of a token is reused.
+     *
+     * @param token The token name.
+     * @return CachePolicy The cache policy of the token.
+     */
+    default CachePolicy cachePolicy(String token) {
+        return CachePolicy.PER_CALL;
+    }
+
+    /**
+     * Evaluates a token.
+     *
+     * @param token    The token name.
+     * @param argument The argument of the token, null for tokens without one.
+     * @param context  The context of the data value transformation.
+     * @return String The value replacing the token, null to replace it with nothing.
+     */
+    String evaluate(String token, String argument, TokenContext context);
+
+    /**
+     * How long the value of a token is reused. Cached values are kept per token and argument; null values are not
+     * cached.
+     */
+    enum CachePolicy {
+        PER_CALL,
+        PER_SCENARIO,
+        PER_RUN
+    }
+}
@@ -0,0 +1,204 @@
+package com.SerenityBDD.support;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Immutable registry of the data tokens, built once per run from the built-in providers and the providers found with
+ * {@link ServiceLoader}, so every token is dispatched to its provider with a single hash lookup. Evaluations are
+ * counted and timed per provider, so expensive tokens show up in the run log.
+ */
+public final class TokenRegistry {
+
+    private static final Map<String, String> RUN_VALUES = new ConcurrentHashMap<>();
+
+    private final Map<String, Registration> registrations;
+    private final List<Timing> timings;
+
+    private TokenRegistry(Map<String, Registration> registrations, List<Timing> timings) {
+        this.registrations = Collections.unmodifiableMap(registrations);
+        this.timings = Collections.unmodifiableList(timings);
+    }
+
+    /**
+     * Returns the registry, loading the token providers on first use.
+     *
+     * @return TokenRegistry The registry shared by the whole run.
+     */
+    public static TokenRegistry getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Looks up the registration of a token.
+     *
+     * @param token The token name.
+     * @return Optional<Registration> The registration, empty if no provider provides the token.
+     */
+    public Optional<Registration> find(String token) {
+        return Optional.ofNullable(registrations.get(token));
+    }
+
+    /**
+     * Get the number of tokens registered.
+     *
+     * @return int The number of registered tokens.
+     */
+    public int size() {
+        return registrations.size();
+    }
+
+    /**
+     * Get the evaluation counters of the providers, in the order they were loaded.
+     *
+     * @return List<Timing> The counters, one per provider.
+     */
+    public List<Timing> timings() {
+        return timings;
+    }
+
+    private static TokenRegistry load() {
+        List<TokenProvider> providers = new ArrayList<>(BuiltInTokenProviders.all());
+        ServiceLoader.load(TokenProvider.class).forEach(providers::add);
+        Map<String, Registration> registrations = new HashMap<>();
+        List<Timing> timings = new ArrayList<>();
+        for (TokenProvider provider : providers) {
+            Timing timing = new Timing(provider.getClass().getName());
+            timings.add(timing);
+            for (String token : provider.tokens()) {
+                Registration previous = registrations.put(token, new Registration(token, provider,
+                        provider.takesArgument(token), provider.cachePolicy(token), timing));
+                if (previous != null) {
+                    throw new RuntimeException("Token $" + token + "$ is provided by both: "
+                            + previous.provider.getClass().getName() + " and " + provider.getClass().getName());
+                }
+            }
+        }
+        return new TokenRegistry(registrations, timings);
+    }
+
+    /**
+     * A token bound to its provider.
+     */
+    public static final class Registration {
+        private final String token;
+        private final TokenProvider provider;
+        private final boolean takesArgument;
+        private final TokenProvider.CachePolicy cachePolicy;
+        private final Timing timing;
+
+        private Registration(String token, TokenProvider provider, boolean takesArgument,
+                             TokenProvider.CachePolicy cachePolicy, Timing timing) {
+            this.token = token;
+            this.provider = provider;
+            this.takesArgument = takesArgument;
+            this.cachePolicy = cachePolicy;
+            this.timing = timing;
+        }
+
+        /**
+         * Get the token name.
+         *
+         * @return String The token name.
+         */
+        public String token() {
+            return token;
+        }
+
+        /**
+         * Check if the token takes the segment following it as its argument.
+         *
+         * @return True if the token takes an argument.
+         */
+        public boolean takesArgument() {
+            return takesArgument;
+        }
+
+        /**
+         * Evaluates the token, reusing a value cached under its policy.
+         *
+         * @param argument The argument of the token, null for tokens without one.
+         * @param context  The context of the data value transformation.
+         * @return String The value replacing the token, null to replace it with nothing.
+         */
+        public String evaluate(String argument, TokenContext context) {
+            Map<String, String> values = switch (cachePolicy) {
+                case PER_CALL -> null;
+                case PER_SCENARIO -> ScenarioContext.current().tokenValues();
+                case PER_RUN -> RUN_VALUES;
+            };
+            String key = argument == null ? token : token + "$" + argument;
+            if (values != null) {
+                String value = values.get(key);
+                if (value != null) {
+                    timing.cacheHits.increment();
+                    return value;
+                }
+            }
+            long start = System.nanoTime();
+            String value = provider.evaluate(token, argument, context);
+            timing.nanos.add(System.nanoTime() - start);
+            timing.evaluations.increment();
+            if (values != null && value != null) {
+                String cached = values.putIfAbsent(key, value);
+                if (cached != null) value = cached;
+            }
+            return value;
+        }
+    }
+
+    /**
+     * Evaluation counters of a provider.
+     */
+    public static final class Timing {
+        private final String provider;
+        private final LongAdder evaluations = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder cacheHits = new LongAdder();
+
+        private Timing(String provider) {
+            this.provider = provider;
+        }
+
+        /**
+         * Get the class name of the provider.
+         *
+         * @return String The class name of the provider.
+         */
+        public String provider() {
+            return provider;
+        }
+
+        /**
+         * Get the number of tokens the provider evaluated.
+         *
+         * @return long The number of evaluations.
+         */
+        public long evaluations() {
+            return evaluations.sum();
+        }
+
+        /**
+         * Get the time the provider spent evaluating tokens.
+         *
+         * @return long The total evaluation time in nanoseconds.
+         */
+        public long nanos() {
+            return nanos.sum();
+        }
+
+        /**
+         * Get the number of token values served from a cache instead of the provider.
+         *
+         * @return long The number of cache hits.
+         */
+        public long cacheHits() {
+            return cacheHits.sum();
+        }
+    }
+
+    private static final class Holder {
+        static final TokenRegistry INSTANCE = load();
+    }
+}